@@ -0,0 +1,21 @@
+package com.mounti.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaginationProperties {
+
+    @Value("${pagination.default-size:20}")
+    private int defaultSize;
+
+    @Value("${pagination.max-size:100}")
+    private int maxSize;
+
+    public int resolvePageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
\ No newline at end of file
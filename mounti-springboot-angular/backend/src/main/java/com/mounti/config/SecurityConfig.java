@@ -1,9 +1,15 @@
 package com.mounti.config;
 
+import com.mounti.security.BoundedPasswordEncoder;
 import com.mounti.security.CustomUserDetailsService;
 import com.mounti.security.JwtAuthenticationEntryPoint;
 import com.mounti.security.JwtAuthenticationFilter;
+import com.mounti.security.PasswordHashingExecutor;
+import com.mounti.security.RateLimitFilter;
+import com.mounti.security.RateLimiter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,6 +40,15 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint unauthorizedHandler;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Value("${password-hashing.bcrypt-cost:10}")
+    private int bcryptCost;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
@@ -41,7 +56,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Hashes run on the bounded hashing pool; stored hashes below this cost are rehashed on login
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptCost), passwordHashingExecutor);
     }
 
     @Bean
@@ -49,6 +65,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
         return authProvider;
     }
 
@@ -63,9 +80,12 @@ public class SecurityConfig {
             .exceptionHandling().authenticationEntryPoint(unauthorizedHandler).and()
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
             .authorizeHttpRequests(authz -> authz
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/trips").permitAll()
+                .requestMatchers("/trips/all").permitAll()
                 .requestMatchers("/trips/{id}").permitAll()
                 .anyRequest().authenticated()
             );
@@ -75,6 +95,7 @@ public class SecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,97 @@
+package com.mounti.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Does nothing unless virtual-thread mode is active (spring.threads.virtual.enabled
+ * on Java 21+). Streams the JFR jdk.VirtualThreadPinned event in-process: a virtual thread that
+ * blocks while it cannot unmount (inside synchronized, or in native code) holds its
+ * carrier thread, and enough of them stall the whole request path.
+ *
+ * Each pinning longer than the threshold is counted in threads.virtual.pinned,
+ * tagged with the first application frame (or the top frame when there is none);
+ * the full stack is logged once per distinct site.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; " +
+                    "requests run on platform threads", Runtime.version().feature());
+            }
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual threads enabled; reporting carrier pinning longer than {} ms", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = site(event);
+        meterRegistry.counter("threads.virtual.pinned", "site", site).increment();
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned its carrier for {} ms at {}:\n{}",
+                event.getDuration().toMillis(), site, event.getStackTrace());
+        }
+    }
+
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.mounti.")) {
+                return describe(frame);
+            }
+        }
+        return describe(event.getStackTrace().getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
\ No newline at end of file
@@ -4,8 +4,14 @@ import com.mounti.dto.*;
 import com.mounti.entity.User;
 import com.mounti.repository.UserRepository;
 import com.mounti.security.JwtTokenProvider;
+import com.mounti.security.PasswordHashingBusyException;
+import com.mounti.security.PasswordHashingExecutor;
+import com.mounti.security.UserPrincipal;
+import com.mounti.util.Ids;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -33,8 +39,20 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody AuthRequest loginRequest) {
+        return passwordHashingExecutor.timeRequest("login", () -> login(loginRequest));
+    }
+
+    @PostMapping("/register")
+    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest signUpRequest) {
+        return passwordHashingExecutor.timeRequest("register", () -> register(signUpRequest));
+    }
+
+    private ResponseEntity<?> login(AuthRequest loginRequest) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -59,13 +77,16 @@ public class AuthController {
 
             return ResponseEntity.ok(new AuthResponse(jwt, userDto));
         } catch (Exception e) {
+            // A busy pool during the user lookup's timing-attack hash arrives wrapped
+            if (e instanceof PasswordHashingBusyException || e.getCause() instanceof PasswordHashingBusyException) {
+                return busy();
+            }
             return ResponseEntity.badRequest()
                 .body("Error: Invalid email or password!");
         }
     }
 
-    @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest signUpRequest) {
+    private ResponseEntity<?> register(RegisterRequest signUpRequest) {
         if (userRepository.existsByEmail(signUpRequest.getEmail())) {
             return ResponseEntity.badRequest()
                 .body("Error: Email is already in use!");
@@ -73,16 +94,20 @@ public class AuthController {
 
         // Create new user
         User user = new User();
-        user.setId(UUID.randomUUID().toString());
+        user.setId(Ids.next());
         user.setEmail(signUpRequest.getEmail());
         user.setName(signUpRequest.getName());
-        user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        try {
+            user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        } catch (PasswordHashingBusyException e) {
+            return busy();
+        }
         user.setIsTransporter(signUpRequest.getIsTransporter());
 
         User result = userRepository.save(user);
 
         // Generate JWT token
-        String jwt = tokenProvider.generateTokenFromUsername(user.getEmail());
+        String jwt = tokenProvider.generateToken(UserPrincipal.create(result));
 
         UserDto userDto = new UserDto(
             result.getId(),
@@ -95,6 +120,12 @@ public class AuthController {
         return ResponseEntity.ok(new AuthResponse(jwt, userDto));
     }
 
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body("Error: Too many sign-in attempts in progress, please retry");
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<?> getUserProfile(Authentication authentication) {
         String email = authentication.getName();
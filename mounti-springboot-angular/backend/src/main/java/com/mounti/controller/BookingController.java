@@ -1,17 +1,26 @@
 package com.mounti.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mounti.dto.BookingBatchRequest;
 import com.mounti.dto.BookingDto;
 import com.mounti.dto.BookingRequest;
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.TripLoadDto;
 import com.mounti.entity.Booking;
 import com.mounti.service.BookingService;
+import com.mounti.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/bookings")
@@ -21,6 +30,9 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<BookingDto> createBooking(
             @Valid @RequestBody BookingRequest bookingRequest,
@@ -30,25 +42,57 @@ public class BookingController {
         return ResponseEntity.ok(booking);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BookingDto>> createBookings(
+            @Valid @RequestBody BookingBatchRequest batchRequest,
+            Authentication authentication) {
+        String email = authentication.getName();
+        List<BookingDto> bookings = bookingService.createBookings(batchRequest.getBookings(), email);
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/my")
-    public ResponseEntity<List<BookingDto>> getMyBookings(Authentication authentication) {
+    public ResponseEntity<CursorPage<BookingDto>> getMyBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         String email = authentication.getName();
-        List<BookingDto> bookings = bookingService.getMyBookings(email);
+        CursorPage<BookingDto> bookings = bookingService.getMyBookings(email, cursor, size);
         return ResponseEntity.ok(bookings);
     }
 
+    // Every booking as one JSON array, written while it is read instead of collected first
+    @GetMapping("/my/all")
+    public void streamMyBookings(Authentication authentication, HttpServletResponse response) throws IOException {
+        String email = authentication.getName();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonArrayWriter writer = new JsonArrayWriter(objectMapper, response.getOutputStream())) {
+            bookingService.forEachMyBooking(email, writer::write);
+            writer.finish();
+        }
+    }
+
     @GetMapping("/trip/{tripId}")
-    public ResponseEntity<List<BookingDto>> getTripBookings(
-            @PathVariable String tripId,
+    public ResponseEntity<CursorPage<BookingDto>> getTripBookings(
+            @PathVariable UUID tripId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
         String email = authentication.getName();
-        List<BookingDto> bookings = bookingService.getTripBookings(tripId, email);
+        CursorPage<BookingDto> bookings = bookingService.getTripBookings(tripId, email, cursor, size);
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/dashboard")
+    public ResponseEntity<List<TripLoadDto>> getTransporterDashboard(Authentication authentication) {
+        String email = authentication.getName();
+        List<TripLoadDto> dashboard = bookingService.getTransporterDashboard(email);
+        return ResponseEntity.ok(dashboard);
+    }
+
     @PutMapping("/{id}/status")
     public ResponseEntity<?> updateBookingStatus(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @RequestBody Map<String, String> statusUpdate,
             Authentication authentication) {
         String email = authentication.getName();
@@ -58,7 +102,7 @@ public class BookingController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BookingDto> getBookingById(@PathVariable String id) {
+    public ResponseEntity<BookingDto> getBookingById(@PathVariable UUID id) {
         BookingDto booking = bookingService.getBookingById(id);
         return ResponseEntity.ok(booking);
     }
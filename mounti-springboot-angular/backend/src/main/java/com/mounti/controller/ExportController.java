@@ -0,0 +1,94 @@
+package com.mounti.controller;
+
+import com.mounti.service.BookingService;
+import com.mounti.service.TripService;
+import com.mounti.util.CsvWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CSV exports of a transporter's full history. Rows are read through a database
+ * cursor and written as they arrive, on the request thread, so memory stays flat
+ * and no async timeout applies however long the export runs. Clients that send
+ * {@code Accept-Encoding: gzip} get the body gzip-compressed.
+ *
+ * A failure midway propagates without closing the writer: the response ends
+ * abruptly (and a gzip body without its trailer) instead of looking complete.
+ */
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "http://localhost:4200")
+public class ExportController {
+
+    private static final String TEXT_CSV = "text/csv;charset=UTF-8";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TripService tripService;
+
+    @GetMapping("/bookings")
+    public void exportBookings(Authentication authentication, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        String email = authentication.getName();
+        CsvWriter csv = new CsvWriter(open(request, response, "bookings.csv"));
+        csv.row("booking_id", "trip_id", "from_location", "to_location", "departure_date", "client_id",
+            "client_name", "booking_type", "quantity", "total_price", "status", "created_at");
+        bookingService.forEachTransporterBooking(email, booking -> csv.row(
+            booking.getId(), booking.getTripId(), booking.getFromLocation(), booking.getToLocation(),
+            booking.getDepartureDate(), booking.getClientId(), booking.getClientName(), booking.getBookingType(),
+            booking.getQuantity(), booking.getTotalPrice(), booking.getStatus(), booking.getCreatedAt()));
+        csv.close();
+    }
+
+    @GetMapping("/trips")
+    public void exportTrips(Authentication authentication, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        String email = authentication.getName();
+        CsvWriter csv = new CsvWriter(open(request, response, "trips.csv"));
+        csv.row("trip_id", "from_location", "to_location", "departure_date", "available_seats",
+            "available_weight_kg", "price_per_seat", "price_per_kg", "status", "notes", "created_at");
+        tripService.forEachMyTrip(email, trip -> csv.row(
+            trip.getId(), trip.getFromLocation(), trip.getToLocation(), trip.getDepartureDate(),
+            trip.getAvailableSeats(), trip.getAvailableWeightKg(), trip.getPricePerSeat(), trip.getPricePerKg(),
+            trip.getStatus(), trip.getNotes(), trip.getCreatedAt()));
+        csv.close();
+    }
+
+    private static OutputStream open(HttpServletRequest request, HttpServletResponse response,
+                                     String filename) throws IOException {
+        response.setContentType(TEXT_CSV);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.getOutputStream();
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new GZIPOutputStream(response.getOutputStream(), 16 * 1024);
+    }
+
+    // "gzip" listed without q=0
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
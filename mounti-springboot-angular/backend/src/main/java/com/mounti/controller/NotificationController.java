@@ -1,13 +1,24 @@
 package com.mounti.controller;
 
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.MarkReadRequest;
 import com.mounti.dto.NotificationDto;
+import com.mounti.security.StreamTicketService;
+import com.mounti.security.UserPrincipal;
 import com.mounti.service.NotificationService;
+import com.mounti.service.NotificationStreamService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/notifications")
@@ -17,26 +28,70 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
     @GetMapping
-    public ResponseEntity<List<NotificationDto>> getNotifications(Authentication authentication) {
+    public ResponseEntity<CursorPage<NotificationDto>> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         String email = authentication.getName();
-        List<NotificationDto> notifications = notificationService.getNotifications(email);
+        CursorPage<NotificationDto> notifications = notificationService.getNotifications(email, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
+    // Opens the stream as GET /notifications/stream?ticket=...; valid once, for a few seconds
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<Map<String, String>> streamTicket(Authentication authentication) {
+        String ticket = streamTicketService.issue((UserPrincipal) authentication.getPrincipal());
+        if (ticket == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build();
+        }
+        return ResponseEntity.ok(Map.of("ticket", ticket));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        SseEmitter emitter = notificationStreamService.subscribe(principal.getId());
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build();
+        }
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
     @PutMapping("/{id}/read")
     public ResponseEntity<?> markAsRead(
-            @PathVariable String id,
+            @PathVariable UUID id,
             Authentication authentication) {
-        String email = authentication.getName();
-        notificationService.markAsRead(id, email);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        notificationService.markAsRead(id, principal.getId());
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/read")
+    public ResponseEntity<Integer> markAsRead(
+            @Valid @RequestBody(required = false) MarkReadRequest request,
+            Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        int updated = notificationService.markAsRead(request != null ? request : new MarkReadRequest(), principal.getId());
+        return ResponseEntity.ok(updated);
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Long> getUnreadCount(Authentication authentication) {
-        String email = authentication.getName();
-        Long count = notificationService.getUnreadCount(email);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        Long count = notificationService.getUnreadCount(principal.getId());
         return ResponseEntity.ok(count);
     }
 }
\ No newline at end of file
@@ -1,16 +1,25 @@
 package com.mounti.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mounti.dto.CursorPage;
 import com.mounti.dto.TripDto;
 import com.mounti.service.TripService;
+import com.mounti.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/trips")
@@ -20,27 +29,67 @@ public class TripController {
     @Autowired
     private TripService tripService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
-    public ResponseEntity<List<TripDto>> getAllTrips(
+    public ResponseEntity<CursorPage<TripDto>> getAllTrips(
             @RequestParam(required = false) String fromLocation,
             @RequestParam(required = false) String toLocation,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        String etag = tripService.searchETag(fromLocation, toLocation);
+        if (etag != null && notModified(request, etag)) {
+            return null;
+        }
         
-        List<TripDto> trips = tripService.searchTrips(fromLocation, toLocation, departureDate);
-        return ResponseEntity.ok(trips);
+        CursorPage<TripDto> trips = tripService.searchTrips(fromLocation, toLocation, departureDate, cursor, size);
+        return ResponseEntity.ok().eTag(etag).body(trips);
+    }
+
+    // Every match as one JSON array, written while it is read instead of collected first
+    @GetMapping("/all")
+    public void streamAllTrips(
+            @RequestParam(required = false) String fromLocation,
+            @RequestParam(required = false) String toLocation,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureDate,
+            ServletWebRequest request) throws IOException {
+        String etag = tripService.searchETag(fromLocation, toLocation);
+        if (etag != null && notModified(request, etag)) {
+            return;
+        }
+        
+        HttpServletResponse response = request.getResponse();
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonArrayWriter writer = new JsonArrayWriter(objectMapper, response.getOutputStream())) {
+            tripService.forEachTrip(fromLocation, toLocation, departureDate, writer::write);
+            writer.finish();
+        }
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<TripDto>> getMyTrips(Authentication authentication) {
+    public ResponseEntity<CursorPage<TripDto>> getMyTrips(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         String email = authentication.getName();
-        List<TripDto> trips = tripService.getMyTrips(email);
+        CursorPage<TripDto> trips = tripService.getMyTrips(email, cursor, size);
         return ResponseEntity.ok(trips);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TripDto> getTripById(@PathVariable String id) {
+    public ResponseEntity<TripDto> getTripById(@PathVariable UUID id, ServletWebRequest request) {
+        Long version = tripService.getTripVersion(id);
+        if (version != null && notModified(request, tripETag(version))) {
+            return null;
+        }
         TripDto trip = tripService.getTripById(id);
-        return ResponseEntity.ok(trip);
+        return ResponseEntity.ok().eTag(tripETag(trip.getVersion())).body(trip);
     }
 
     @PostMapping
@@ -54,7 +103,7 @@ public class TripController {
 
     @PutMapping("/{id}")
     public ResponseEntity<TripDto> updateTrip(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @Valid @RequestBody TripDto tripDto,
             Authentication authentication) {
         String email = authentication.getName();
@@ -63,9 +112,20 @@ public class TripController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTrip(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> deleteTrip(@PathVariable UUID id, Authentication authentication) {
         String email = authentication.getName();
         tripService.deleteTrip(id, email);
         return ResponseEntity.ok().build();
     }
+
+    private static String tripETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Sets the 304's headers too: no-cache lets clients keep the body but revalidate every time,
+    // and keeps Spring Security from adding no-store
+    private static boolean notModified(ServletWebRequest request, String etag) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return request.checkNotModified(etag);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.mounti.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BookingBatchRequest {
+    @NotEmpty
+    @Size(max = 50)
+    @Valid
+    private List<BookingRequest> bookings;
+    
+    // Constructors
+    public BookingBatchRequest() {}
+    
+    public BookingBatchRequest(List<BookingRequest> bookings) {
+        this.bookings = bookings;
+    }
+    
+    // Getters and Setters
+    public List<BookingRequest> getBookings() { return bookings; }
+    public void setBookings(List<BookingRequest> bookings) { this.bookings = bookings; }
+}
\ No newline at end of file
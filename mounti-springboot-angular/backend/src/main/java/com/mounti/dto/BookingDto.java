@@ -7,11 +7,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class BookingDto {
-    private String id;
-    private String tripId;
-    private String clientId;
+    private UUID id;
+    private UUID tripId;
+    private UUID clientId;
     private String clientName;
     private Booking.BookingType bookingType;
     private Integer quantity;
@@ -22,7 +23,7 @@ public class BookingDto {
     // Constructors
     public BookingDto() {}
     
-    public BookingDto(String id, String tripId, String clientId, String clientName,
+    public BookingDto(UUID id, UUID tripId, UUID clientId, String clientName,
                       Booking.BookingType bookingType, Integer quantity, Double totalPrice,
                       Booking.BookingStatus status, LocalDateTime createdAt) {
         this.id = id;
@@ -37,14 +38,14 @@ public class BookingDto {
     }
     
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getTripId() { return tripId; }
-    public void setTripId(String tripId) { this.tripId = tripId; }
+    public UUID getTripId() { return tripId; }
+    public void setTripId(UUID tripId) { this.tripId = tripId; }
     
-    public String getClientId() { return clientId; }
-    public void setClientId(String clientId) { this.clientId = clientId; }
+    public UUID getClientId() { return clientId; }
+    public void setClientId(UUID clientId) { this.clientId = clientId; }
     
     public String getClientName() { return clientName; }
     public void setClientName(String clientName) { this.clientName = clientName; }
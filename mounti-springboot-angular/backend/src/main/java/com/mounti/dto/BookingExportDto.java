@@ -0,0 +1,79 @@
+package com.mounti.dto;
+
+import com.mounti.entity.Booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class BookingExportDto {
+    private UUID id;
+    private UUID tripId;
+    private String fromLocation;
+    private String toLocation;
+    private LocalDateTime departureDate;
+    private UUID clientId;
+    private String clientName;
+    private Booking.BookingType bookingType;
+    private Integer quantity;
+    private Double totalPrice;
+    private Booking.BookingStatus status;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public BookingExportDto() {}
+    
+    public BookingExportDto(UUID id, UUID tripId, String fromLocation, String toLocation,
+                            LocalDateTime departureDate, UUID clientId, String clientName,
+                            Booking.BookingType bookingType, Integer quantity, Double totalPrice,
+                            Booking.BookingStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.tripId = tripId;
+        this.fromLocation = fromLocation;
+        this.toLocation = toLocation;
+        this.departureDate = departureDate;
+        this.clientId = clientId;
+        this.clientName = clientName;
+        this.bookingType = bookingType;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    
+    public UUID getTripId() { return tripId; }
+    public void setTripId(UUID tripId) { this.tripId = tripId; }
+    
+    public String getFromLocation() { return fromLocation; }
+    public void setFromLocation(String fromLocation) { this.fromLocation = fromLocation; }
+    
+    public String getToLocation() { return toLocation; }
+    public void setToLocation(String toLocation) { this.toLocation = toLocation; }
+    
+    public LocalDateTime getDepartureDate() { return departureDate; }
+    public void setDepartureDate(LocalDateTime departureDate) { this.departureDate = departureDate; }
+    
+    public UUID getClientId() { return clientId; }
+    public void setClientId(UUID clientId) { this.clientId = clientId; }
+    
+    public String getClientName() { return clientName; }
+    public void setClientName(String clientName) { this.clientName = clientName; }
+    
+    public Booking.BookingType getBookingType() { return bookingType; }
+    public void setBookingType(Booking.BookingType bookingType) { this.bookingType = bookingType; }
+    
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    
+    public Double getTotalPrice() { return totalPrice; }
+    public void setTotalPrice(Double totalPrice) { this.totalPrice = totalPrice; }
+    
+    public Booking.BookingStatus getStatus() { return status; }
+    public void setStatus(Booking.BookingStatus status) { this.status = status; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
\ No newline at end of file
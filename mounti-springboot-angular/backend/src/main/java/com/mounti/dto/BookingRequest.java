@@ -2,12 +2,13 @@ package com.mounti.dto;
 
 import com.mounti.entity.Booking;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.UUID;
+
 public class BookingRequest {
-    @NotBlank
-    private String tripId;
+    @NotNull
+    private UUID tripId;
     
     @NotNull
     private Booking.BookingType bookingType;
@@ -18,15 +19,15 @@ public class BookingRequest {
     // Constructors
     public BookingRequest() {}
     
-    public BookingRequest(String tripId, Booking.BookingType bookingType, Integer quantity) {
+    public BookingRequest(UUID tripId, Booking.BookingType bookingType, Integer quantity) {
         this.tripId = tripId;
         this.bookingType = bookingType;
         this.quantity = quantity;
     }
     
     // Getters and Setters
-    public String getTripId() { return tripId; }
-    public void setTripId(String tripId) { this.tripId = tripId; }
+    public UUID getTripId() { return tripId; }
+    public void setTripId(UUID tripId) { this.tripId = tripId; }
     
     public Booking.BookingType getBookingType() { return bookingType; }
     public void setBookingType(Booking.BookingType bookingType) { this.bookingType = bookingType; }
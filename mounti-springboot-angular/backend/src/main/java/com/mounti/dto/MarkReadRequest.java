@@ -0,0 +1,36 @@
+package com.mounti.dto;
+
+import com.mounti.entity.Notification;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class MarkReadRequest {
+    @Size(max = 500)
+    private List<UUID> ids;
+    
+    private Notification.NotificationType type;
+    
+    private LocalDateTime before;
+    
+    // Constructors
+    public MarkReadRequest() {}
+    
+    public MarkReadRequest(List<UUID> ids, Notification.NotificationType type, LocalDateTime before) {
+        this.ids = ids;
+        this.type = type;
+        this.before = before;
+    }
+    
+    // Getters and Setters
+    public List<UUID> getIds() { return ids; }
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+    
+    public Notification.NotificationType getType() { return type; }
+    public void setType(Notification.NotificationType type) { this.type = type; }
+    
+    public LocalDateTime getBefore() { return before; }
+    public void setBefore(LocalDateTime before) { this.before = before; }
+}
\ No newline at end of file
@@ -3,10 +3,11 @@ package com.mounti.dto;
 import com.mounti.entity.Notification;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class NotificationDto {
-    private String id;
-    private String userId;
+    private UUID id;
+    private UUID userId;
     private String title;
     private String message;
     private Notification.NotificationType type;
@@ -16,7 +17,7 @@ public class NotificationDto {
     // Constructors
     public NotificationDto() {}
     
-    public NotificationDto(String id, String userId, String title, String message,
+    public NotificationDto(UUID id, UUID userId, String title, String message,
                           Notification.NotificationType type, Boolean isRead, LocalDateTime createdAt) {
         this.id = id;
         this.userId = userId;
@@ -28,11 +29,11 @@ public class NotificationDto {
     }
     
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getUserId() { return userId; }
-    public void setUserId(String userId) { this.userId = userId; }
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
     
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
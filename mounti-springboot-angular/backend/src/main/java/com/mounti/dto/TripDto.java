@@ -4,10 +4,11 @@ import com.mounti.entity.Trip;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class TripDto {
-    private String id;
-    private String transporterId;
+    private UUID id;
+    private UUID transporterId;
     private String transporterName;
     
     @NotBlank
@@ -36,14 +37,15 @@ public class TripDto {
     private String notes;
     private Trip.TripStatus status;
     private LocalDateTime createdAt;
+    private Long version;
     
     // Constructors
     public TripDto() {}
     
-    public TripDto(String id, String transporterId, String transporterName, String fromLocation,
+    public TripDto(UUID id, UUID transporterId, String transporterName, String fromLocation,
                    String toLocation, LocalDateTime departureDate, Integer availableSeats,
                    Double availableWeightKg, Double pricePerSeat, Double pricePerKg,
-                   String notes, Trip.TripStatus status, LocalDateTime createdAt) {
+                   String notes, Trip.TripStatus status, LocalDateTime createdAt, Long version) {
         this.id = id;
         this.transporterId = transporterId;
         this.transporterName = transporterName;
@@ -57,14 +59,15 @@ public class TripDto {
         this.notes = notes;
         this.status = status;
         this.createdAt = createdAt;
+        this.version = version;
     }
     
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getTransporterId() { return transporterId; }
-    public void setTransporterId(String transporterId) { this.transporterId = transporterId; }
+    public UUID getTransporterId() { return transporterId; }
+    public void setTransporterId(UUID transporterId) { this.transporterId = transporterId; }
     
     public String getTransporterName() { return transporterName; }
     public void setTransporterName(String transporterName) { this.transporterName = transporterName; }
@@ -98,4 +101,7 @@ public class TripDto {
     
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
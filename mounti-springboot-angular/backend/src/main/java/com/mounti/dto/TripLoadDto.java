@@ -0,0 +1,84 @@
+package com.mounti.dto;
+
+import com.mounti.entity.Trip;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class TripLoadDto {
+    private UUID tripId;
+    private String fromLocation;
+    private String toLocation;
+    private LocalDateTime departureDate;
+    private Trip.TripStatus status;
+    private Integer availableSeats;
+    private Double availableWeightKg;
+    private Long confirmedSeats;
+    private Long pendingSeats;
+    private Long confirmedKg;
+    private Long pendingKg;
+    private Double confirmedRevenue;
+    private Double pendingRevenue;
+    
+    // Constructors
+    public TripLoadDto() {}
+    
+    public TripLoadDto(UUID tripId, String fromLocation, String toLocation, LocalDateTime departureDate,
+                       Trip.TripStatus status, Integer availableSeats, Double availableWeightKg,
+                       Long confirmedSeats, Long pendingSeats, Long confirmedKg, Long pendingKg,
+                       Double confirmedRevenue, Double pendingRevenue) {
+        this.tripId = tripId;
+        this.fromLocation = fromLocation;
+        this.toLocation = toLocation;
+        this.departureDate = departureDate;
+        this.status = status;
+        this.availableSeats = availableSeats;
+        this.availableWeightKg = availableWeightKg;
+        this.confirmedSeats = confirmedSeats;
+        this.pendingSeats = pendingSeats;
+        this.confirmedKg = confirmedKg;
+        this.pendingKg = pendingKg;
+        this.confirmedRevenue = confirmedRevenue;
+        this.pendingRevenue = pendingRevenue;
+    }
+    
+    // Getters and Setters
+    public UUID getTripId() { return tripId; }
+    public void setTripId(UUID tripId) { this.tripId = tripId; }
+    
+    public String getFromLocation() { return fromLocation; }
+    public void setFromLocation(String fromLocation) { this.fromLocation = fromLocation; }
+    
+    public String getToLocation() { return toLocation; }
+    public void setToLocation(String toLocation) { this.toLocation = toLocation; }
+    
+    public LocalDateTime getDepartureDate() { return departureDate; }
+    public void setDepartureDate(LocalDateTime departureDate) { this.departureDate = departureDate; }
+    
+    public Trip.TripStatus getStatus() { return status; }
+    public void setStatus(Trip.TripStatus status) { this.status = status; }
+    
+    public Integer getAvailableSeats() { return availableSeats; }
+    public void setAvailableSeats(Integer availableSeats) { this.availableSeats = availableSeats; }
+    
+    public Double getAvailableWeightKg() { return availableWeightKg; }
+    public void setAvailableWeightKg(Double availableWeightKg) { this.availableWeightKg = availableWeightKg; }
+    
+    public Long getConfirmedSeats() { return confirmedSeats; }
+    public void setConfirmedSeats(Long confirmedSeats) { this.confirmedSeats = confirmedSeats; }
+    
+    public Long getPendingSeats() { return pendingSeats; }
+    public void setPendingSeats(Long pendingSeats) { this.pendingSeats = pendingSeats; }
+    
+    public Long getConfirmedKg() { return confirmedKg; }
+    public void setConfirmedKg(Long confirmedKg) { this.confirmedKg = confirmedKg; }
+    
+    public Long getPendingKg() { return pendingKg; }
+    public void setPendingKg(Long pendingKg) { this.pendingKg = pendingKg; }
+    
+    public Double getConfirmedRevenue() { return confirmedRevenue; }
+    public void setConfirmedRevenue(Double confirmedRevenue) { this.confirmedRevenue = confirmedRevenue; }
+    
+    public Double getPendingRevenue() { return pendingRevenue; }
+    public void setPendingRevenue(Double pendingRevenue) { this.pendingRevenue = pendingRevenue; }
+}
\ No newline at end of file
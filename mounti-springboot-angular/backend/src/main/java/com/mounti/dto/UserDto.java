@@ -1,9 +1,10 @@
 package com.mounti.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class UserDto {
-    private String id;
+    private UUID id;
     private String email;
     private String name;
     private Boolean isTransporter;
@@ -12,7 +13,7 @@ public class UserDto {
     // Constructors
     public UserDto() {}
     
-    public UserDto(String id, String email, String name, Boolean isTransporter, LocalDateTime createdAt) {
+    public UserDto(UUID id, String email, String name, Boolean isTransporter, LocalDateTime createdAt) {
         this.id = id;
         this.email = email;
         this.name = name;
@@ -21,8 +22,8 @@ public class UserDto {
     }
     
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
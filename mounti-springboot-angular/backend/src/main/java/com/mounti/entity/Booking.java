@@ -3,24 +3,29 @@ package com.mounti.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_client_created", columnList = "client_id, created_at, id"),
+    @Index(name = "idx_bookings_trip_created", columnList = "trip_id, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
-public class Booking {
+public class Booking implements Persistable<UUID> {
     @Id
-    private String id;
+    private UUID id;
     
-    @NotBlank
+    @NotNull
     @Column(name = "trip_id")
-    private String tripId;
+    private UUID tripId;
     
-    @NotBlank
+    @NotNull
     @Column(name = "client_id")
-    private String clientId;
+    private UUID clientId;
     
     @NotBlank
     @Column(name = "client_name")
@@ -52,10 +57,15 @@ public class Booking {
     @JoinColumn(name = "client_id", insertable = false, updatable = false)
     private User client;
     
+    // Ids are assigned before save; without this Spring Data would merge (SELECT, then
+    // INSERT) every new booking instead of persisting it, which also defeats insert batching
+    @Transient
+    private boolean isNew = true;
+    
     // Constructors
     public Booking() {}
     
-    public Booking(String tripId, String clientId, String clientName, 
+    public Booking(UUID tripId, UUID clientId, String clientName, 
                    BookingType bookingType, Integer quantity, Double totalPrice) {
         this.tripId = tripId;
         this.clientId = clientId;
@@ -65,15 +75,24 @@ public class Booking {
         this.totalPrice = totalPrice;
     }
     
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+    
+    @Override
+    public boolean isNew() { return isNew; }
+    
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getTripId() { return tripId; }
-    public void setTripId(String tripId) { this.tripId = tripId; }
+    public UUID getTripId() { return tripId; }
+    public void setTripId(UUID tripId) { this.tripId = tripId; }
     
-    public String getClientId() { return clientId; }
-    public void setClientId(String clientId) { this.clientId = clientId; }
+    public UUID getClientId() { return clientId; }
+    public void setClientId(UUID clientId) { this.clientId = clientId; }
     
     public String getClientName() { return clientName; }
     public void setClientName(String clientName) { this.clientName = clientName; }
@@ -2,21 +2,26 @@ package com.mounti.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_notifications_read_created", columnList = "is_read, created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
     @Id
-    private String id;
+    private UUID id;
     
-    @NotBlank
+    @NotNull
     @Column(name = "user_id")
-    private String userId;
+    private UUID userId;
     
     @NotBlank
     private String title;
@@ -41,7 +46,7 @@ public class Notification {
     // Constructors
     public Notification() {}
     
-    public Notification(String userId, String title, String message, NotificationType type) {
+    public Notification(UUID userId, String title, String message, NotificationType type) {
         this.userId = userId;
         this.title = title;
         this.message = message;
@@ -49,11 +54,11 @@ public class Notification {
     }
     
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getUserId() { return userId; }
-    public void setUserId(String userId) { this.userId = userId; }
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
     
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
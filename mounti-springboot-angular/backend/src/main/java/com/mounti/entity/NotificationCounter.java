@@ -0,0 +1,33 @@
+package com.mounti.entity;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+// Unread notifications per user, kept in step with the notifications table
+// so the unread count is a primary-key lookup instead of a COUNT
+@Entity
+@Table(name = "notification_counters")
+public class NotificationCounter {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount = 0L;
+    
+    // Constructors
+    public NotificationCounter() {}
+    
+    public NotificationCounter(UUID userId, Long unreadCount) {
+        this.userId = userId;
+        this.unreadCount = unreadCount;
+    }
+    
+    // Getters and Setters
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+    
+    public Long getUnreadCount() { return unreadCount; }
+    public void setUnreadCount(Long unreadCount) { this.unreadCount = unreadCount; }
+}
\ No newline at end of file
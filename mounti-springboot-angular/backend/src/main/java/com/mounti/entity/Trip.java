@@ -1,23 +1,34 @@
 package com.mounti.entity;
 
+import com.mounti.util.LocationKeys;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
-@Table(name = "trips")
+@Table(name = "trips", indexes = {
+    @Index(name = "idx_trips_route_departure", columnList = "status, from_location_key, to_location_key, departure_date"),
+    @Index(name = "idx_trips_to_departure", columnList = "status, to_location_key, departure_date"),
+    @Index(name = "idx_trips_departure", columnList = "status, departure_date"),
+    @Index(name = "idx_trips_transporter_departure", columnList = "transporter_id, departure_date, id")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "trips")
 public class Trip {
     @Id
-    private String id;
+    private UUID id;
     
-    @NotBlank
+    @NotNull
     @Column(name = "transporter_id")
-    private String transporterId;
+    private UUID transporterId;
     
     @NotBlank
     @Column(name = "transporter_name")
@@ -31,16 +42,25 @@ public class Trip {
     @Column(name = "to_location")
     private String toLocation;
     
+    // Normalized copies of the locations, maintained on write, so search can do
+    // equality lookups on normalized city keys through an index instead of
+    // LOWER(..) LIKE '%x%' scans
+    @Column(name = "from_location_key")
+    private String fromLocationKey;
+    
+    @Column(name = "to_location_key")
+    private String toLocationKey;
+    
     @NotNull
     @Column(name = "departure_date")
     private LocalDateTime departureDate;
     
-    @Min(1)
+    @Min(0)
     @Max(8)
     @Column(name = "available_seats")
     private Integer availableSeats;
     
-    @DecimalMin("0.5")
+    @DecimalMin("0.0")
     @DecimalMax("100.0")
     @Column(name = "available_weight_kg")
     private Double availableWeightKg;
@@ -62,6 +82,9 @@ public class Trip {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    @Version
+    private Long version;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "transporter_id", insertable = false, updatable = false)
     private User transporter;
@@ -72,7 +95,7 @@ public class Trip {
     // Constructors
     public Trip() {}
     
-    public Trip(String transporterId, String transporterName, String fromLocation, 
+    public Trip(UUID transporterId, String transporterName, String fromLocation, 
                 String toLocation, LocalDateTime departureDate, Integer availableSeats,
                 Double availableWeightKg, Double pricePerSeat, Double pricePerKg, String notes) {
         this.transporterId = transporterId;
@@ -87,12 +110,19 @@ public class Trip {
         this.notes = notes;
     }
     
+    @PrePersist
+    @PreUpdate
+    void updateLocationKeys() {
+        this.fromLocationKey = LocationKeys.normalize(fromLocation);
+        this.toLocationKey = LocationKeys.normalize(toLocation);
+    }
+    
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     
-    public String getTransporterId() { return transporterId; }
-    public void setTransporterId(String transporterId) { this.transporterId = transporterId; }
+    public UUID getTransporterId() { return transporterId; }
+    public void setTransporterId(UUID transporterId) { this.transporterId = transporterId; }
     
     public String getTransporterName() { return transporterName; }
     public void setTransporterName(String transporterName) { this.transporterName = transporterName; }
@@ -103,6 +133,10 @@ public class Trip {
     public String getToLocation() { return toLocation; }
     public void setToLocation(String toLocation) { this.toLocation = toLocation; }
     
+    public String getFromLocationKey() { return fromLocationKey; }
+    
+    public String getToLocationKey() { return toLocationKey; }
+    
     public LocalDateTime getDepartureDate() { return departureDate; }
     public void setDepartureDate(LocalDateTime departureDate) { this.departureDate = departureDate; }
     
@@ -127,6 +161,9 @@ public class Trip {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public User getTransporter() { return transporter; }
     public void setTransporter(User transporter) { this.transporter = transporter; }
     
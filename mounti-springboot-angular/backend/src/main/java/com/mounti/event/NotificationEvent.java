@@ -0,0 +1,51 @@
+package com.mounti.event;
+
+import com.mounti.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A notification to be written asynchronously by the outbox. The id and
+ * timestamp are fixed at publication so replays after a restart are idempotent.
+ */
+public class NotificationEvent {
+    private UUID id;
+    private UUID userId;
+    private String title;
+    private String message;
+    private Notification.NotificationType type;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public NotificationEvent() {}
+    
+    public NotificationEvent(UUID id, UUID userId, String title, String message,
+                             Notification.NotificationType type, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    
+    public Notification.NotificationType getType() { return type; }
+    public void setType(Notification.NotificationType type) { this.type = type; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.mounti.event;
+
+import java.util.List;
+
+/**
+ * Published by the outbox after a batch of notifications is in the database,
+ * so readers see the same rows the stream pushes.
+ */
+public class NotificationsStoredEvent {
+    private final List<NotificationEvent> notifications;
+    
+    public NotificationsStoredEvent(List<NotificationEvent> notifications) {
+        this.notifications = notifications;
+    }
+    
+    public List<NotificationEvent> getNotifications() { return notifications; }
+}
\ No newline at end of file
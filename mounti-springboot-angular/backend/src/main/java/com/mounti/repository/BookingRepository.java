@@ -1,41 +1,106 @@
 package com.mounti.repository;
 
+import com.mounti.dto.BookingDto;
+import com.mounti.dto.BookingExportDto;
+import com.mounti.dto.TripLoadDto;
 import com.mounti.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, String> {
+public interface BookingRepository extends JpaRepository<Booking, UUID> {
     
-    List<Booking> findByClientId(String clientId);
+    List<Booking> findByClientId(UUID clientId);
     
-    List<Booking> findByTripId(String tripId);
+    List<Booking> findByTripId(UUID tripId);
     
     List<Booking> findByStatus(Booking.BookingStatus status);
     
+    @Query("SELECT new com.mounti.dto.BookingDto(b.id, b.tripId, b.clientId, b.clientName, " +
+           "b.bookingType, b.quantity, b.totalPrice, b.status, b.createdAt) " +
+           "FROM Booking b WHERE b.clientId = :clientId " +
+           "AND (:beforeDate IS NULL OR b.createdAt < :beforeDate " +
+           "     OR (b.createdAt = :beforeDate AND b.id < :beforeId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingDto> findPageByClientId(@Param("clientId") UUID clientId,
+                                     @Param("beforeDate") LocalDateTime beforeDate,
+                                     @Param("beforeId") UUID beforeId,
+                                     Limit limit);
+    
+    // Every booking of the client in page order, read through a cursor; the stream
+    // must be consumed and closed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.mounti.dto.BookingDto(b.id, b.tripId, b.clientId, b.clientName, " +
+           "b.bookingType, b.quantity, b.totalPrice, b.status, b.createdAt) " +
+           "FROM Booking b WHERE b.clientId = :clientId " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<BookingDto> streamByClientId(@Param("clientId") UUID clientId);
+    
+    @Query("SELECT new com.mounti.dto.BookingDto(b.id, b.tripId, b.clientId, b.clientName, " +
+           "b.bookingType, b.quantity, b.totalPrice, b.status, b.createdAt) " +
+           "FROM Booking b WHERE b.tripId = :tripId " +
+           "AND (:afterDate IS NULL OR b.createdAt > :afterDate " +
+           "     OR (b.createdAt = :afterDate AND b.id > :afterId)) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BookingDto> findPageByTripId(@Param("tripId") UUID tripId,
+                                   @Param("afterDate") LocalDateTime afterDate,
+                                   @Param("afterId") UUID afterId,
+                                   Limit limit);
+    
+    // Every booking on the transporter's trips, trip by trip, read through a cursor
+    // (the trips index drives the join, each trip's bookings come off the trip index).
+    // Stands in for the entity-returning findBookingsByTransporterId the dashboard query replaced
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.mounti.dto.BookingExportDto(b.id, b.tripId, t.fromLocation, t.toLocation, " +
+           "t.departureDate, b.clientId, b.clientName, b.bookingType, b.quantity, b.totalPrice, " +
+           "b.status, b.createdAt) " +
+           "FROM Booking b JOIN Trip t ON t.id = b.tripId " +
+           "WHERE t.transporterId = :transporterId " +
+           "ORDER BY t.departureDate DESC, t.id DESC, b.createdAt ASC, b.id ASC")
+    Stream<BookingExportDto> streamBookingsByTransporterId(@Param("transporterId") UUID transporterId);
+    
     @Query("SELECT b FROM Booking b WHERE b.clientId = :clientId " +
            "AND b.status = :status " +
            "ORDER BY b.createdAt DESC")
-    List<Booking> findByClientIdAndStatus(@Param("clientId") String clientId,
+    List<Booking> findByClientIdAndStatus(@Param("clientId") UUID clientId,
                                          @Param("status") Booking.BookingStatus status);
     
     @Query("SELECT b FROM Booking b WHERE b.tripId = :tripId " +
            "AND b.status = :status " +
            "ORDER BY b.createdAt ASC")
-    List<Booking> findByTripIdAndStatus(@Param("tripId") String tripId,
+    List<Booking> findByTripIdAndStatus(@Param("tripId") UUID tripId,
                                        @Param("status") Booking.BookingStatus status);
     
     @Query("SELECT SUM(b.quantity) FROM Booking b WHERE b.tripId = :tripId " +
            "AND b.bookingType = :bookingType " +
            "AND b.status = 'CONFIRMED'")
-    Integer getTotalBookedQuantity(@Param("tripId") String tripId,
+    Integer getTotalBookedQuantity(@Param("tripId") UUID tripId,
                                   @Param("bookingType") Booking.BookingType bookingType);
     
-    @Query("SELECT b FROM Booking b JOIN b.trip t WHERE t.transporterId = :transporterId " +
-           "ORDER BY b.createdAt DESC")
-    List<Booking> findBookingsByTransporterId(@Param("transporterId") String transporterId);
+    // One row per trip the transporter owns, its bookings folded into per-status totals.
+    // The LEFT JOIN keeps trips without bookings; their CASE branches all fall to zero.
+    @Query("SELECT new com.mounti.dto.TripLoadDto(t.id, t.fromLocation, t.toLocation, t.departureDate, " +
+           "t.status, t.availableSeats, t.availableWeightKg, " +
+           "SUM(CASE WHEN b.status = 'CONFIRMED' AND b.bookingType = 'SEAT' THEN b.quantity ELSE 0 END), " +
+           "SUM(CASE WHEN b.status = 'PENDING' AND b.bookingType = 'SEAT' THEN b.quantity ELSE 0 END), " +
+           "SUM(CASE WHEN b.status = 'CONFIRMED' AND b.bookingType = 'PARCEL' THEN b.quantity ELSE 0 END), " +
+           "SUM(CASE WHEN b.status = 'PENDING' AND b.bookingType = 'PARCEL' THEN b.quantity ELSE 0 END), " +
+           "SUM(CASE WHEN b.status = 'CONFIRMED' THEN b.totalPrice ELSE 0.0 END), " +
+           "SUM(CASE WHEN b.status = 'PENDING' THEN b.totalPrice ELSE 0.0 END)) " +
+           "FROM Trip t LEFT JOIN Booking b ON b.tripId = t.id " +
+           "WHERE t.transporterId = :transporterId " +
+           "GROUP BY t.id, t.fromLocation, t.toLocation, t.departureDate, t.status, " +
+           "t.availableSeats, t.availableWeightKg " +
+           "ORDER BY t.departureDate DESC, t.id DESC")
+    List<TripLoadDto> findTripLoadsByTransporterId(@Param("transporterId") UUID transporterId);
 }
\ No newline at end of file
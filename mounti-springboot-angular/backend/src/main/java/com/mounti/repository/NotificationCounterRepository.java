@@ -0,0 +1,25 @@
+package com.mounti.repository;
+
+import com.mounti.entity.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, UUID> {
+    
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") UUID userId);
+    
+    // Never goes below zero; any drift is left for NotificationCounterReconciler
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unreadCount = " +
+           "CASE WHEN c.unreadCount > :count THEN c.unreadCount - :count ELSE 0 END " +
+           "WHERE c.userId = :userId")
+    int decrement(@Param("userId") UUID userId, @Param("count") long count);
+}
\ No newline at end of file
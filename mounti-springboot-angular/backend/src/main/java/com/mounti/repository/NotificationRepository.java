@@ -1,33 +1,76 @@
 package com.mounti.repository;
 
+import com.mounti.dto.NotificationDto;
 import com.mounti.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, String> {
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
     
-    List<Notification> findByUserId(String userId);
+    List<Notification> findByUserId(UUID userId);
     
-    List<Notification> findByUserIdOrderByCreatedAtDesc(String userId);
+    List<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId);
+    
+    @Query("SELECT new com.mounti.dto.NotificationDto(n.id, n.userId, n.title, n.message, n.type, " +
+           "n.isRead, n.createdAt) " +
+           "FROM Notification n WHERE n.userId = :userId " +
+           "AND (:beforeDate IS NULL OR n.createdAt < :beforeDate " +
+           "     OR (n.createdAt = :beforeDate AND n.id < :beforeId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findPageByUserId(@Param("userId") UUID userId,
+                                        @Param("beforeDate") LocalDateTime beforeDate,
+                                        @Param("beforeId") UUID beforeId,
+                                        Limit limit);
     
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
            "AND n.isRead = :isRead " +
            "ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdAndIsRead(@Param("userId") String userId,
+    List<Notification> findByUserIdAndIsRead(@Param("userId") UUID userId,
                                            @Param("isRead") Boolean isRead);
     
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.id = :id AND n.userId = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") UUID id, @Param("userId") UUID userId);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.userId = :userId AND n.isRead = false " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND (:before IS NULL OR n.createdAt < :before)")
+    int markAllAsRead(@Param("userId") UUID userId,
+                      @Param("type") Notification.NotificationType type,
+                      @Param("before") LocalDateTime before);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.id IN :ids AND n.userId = :userId AND n.isRead = false " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND (:before IS NULL OR n.createdAt < :before)")
+    int markAsRead(@Param("ids") Collection<UUID> ids,
+                   @Param("userId") UUID userId,
+                   @Param("type") Notification.NotificationType type,
+                   @Param("before") LocalDateTime before);
+    
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+    
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId " +
            "AND n.isRead = false")
-    Long countUnreadNotifications(@Param("userId") String userId);
+    Long countUnreadNotifications(@Param("userId") UUID userId);
     
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
            "AND n.type = :type " +
            "ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdAndType(@Param("userId") String userId,
+    List<Notification> findByUserIdAndType(@Param("userId") UUID userId,
                                           @Param("type") Notification.NotificationType type);
 }
\ No newline at end of file
@@ -1,29 +1,98 @@
 package com.mounti.repository;
 
+import com.mounti.dto.TripDto;
 import com.mounti.entity.Trip;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TripRepository extends JpaRepository<Trip, String> {
+public interface TripRepository extends JpaRepository<Trip, UUID> {
     
-    List<Trip> findByTransporterId(String transporterId);
+    List<Trip> findByTransporterId(UUID transporterId);
     
     List<Trip> findByStatus(Trip.TripStatus status);
     
-    @Query("SELECT t FROM Trip t WHERE t.status = 'ACTIVE' " +
-           "AND (:fromLocation IS NULL OR LOWER(t.fromLocation) LIKE LOWER(CONCAT('%', :fromLocation, '%'))) " +
-           "AND (:toLocation IS NULL OR LOWER(t.toLocation) LIKE LOWER(CONCAT('%', :toLocation, '%'))) " +
-           "AND (:departureDate IS NULL OR DATE(t.departureDate) = DATE(:departureDate)) " +
-           "ORDER BY t.departureDate ASC")
-    List<Trip> findTripsWithFilters(@Param("fromLocation") String fromLocation,
-                                   @Param("toLocation") String toLocation,
-                                   @Param("departureDate") LocalDateTime departureDate);
+    // Locations are matched on their normalized keys (see LocationKeys) and the departure
+    // day is a half-open range, so every predicate can be answered from an index.
+    // Pages continue after the (departureDate, id) of the previous page's last row.
+    // Read pages are projected straight into DTOs: no managed entities, no snapshots
+    // for dirty checking and no second-level cache puts for rows that are only serialized.
+    @Query("SELECT new com.mounti.dto.TripDto(t.id, t.transporterId, t.transporterName, t.fromLocation, " +
+           "t.toLocation, t.departureDate, t.availableSeats, t.availableWeightKg, t.pricePerSeat, " +
+           "t.pricePerKg, t.notes, t.status, t.createdAt, t.version) " +
+           "FROM Trip t WHERE t.status = 'ACTIVE' " +
+           "AND (:fromKey IS NULL OR t.fromLocationKey = :fromKey) " +
+           "AND (:toKey IS NULL OR t.toLocationKey = :toKey) " +
+           "AND (:departureFrom IS NULL OR t.departureDate >= :departureFrom) " +
+           "AND (:departureTo IS NULL OR t.departureDate < :departureTo) " +
+           "AND (:afterDate IS NULL OR t.departureDate > :afterDate " +
+           "     OR (t.departureDate = :afterDate AND t.id > :afterId)) " +
+           "ORDER BY t.departureDate ASC, t.id ASC")
+    List<TripDto> findTripsWithFilters(@Param("fromKey") String fromKey,
+                                   @Param("toKey") String toKey,
+                                   @Param("departureFrom") LocalDateTime departureFrom,
+                                   @Param("departureTo") LocalDateTime departureTo,
+                                   @Param("afterDate") LocalDateTime afterDate,
+                                   @Param("afterId") UUID afterId,
+                                   Limit limit);
+    
+    // The same filters without paging, read through a cursor; the stream must be
+    // consumed and closed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.mounti.dto.TripDto(t.id, t.transporterId, t.transporterName, t.fromLocation, " +
+           "t.toLocation, t.departureDate, t.availableSeats, t.availableWeightKg, t.pricePerSeat, " +
+           "t.pricePerKg, t.notes, t.status, t.createdAt, t.version) " +
+           "FROM Trip t WHERE t.status = 'ACTIVE' " +
+           "AND (:fromKey IS NULL OR t.fromLocationKey = :fromKey) " +
+           "AND (:toKey IS NULL OR t.toLocationKey = :toKey) " +
+           "AND (:departureFrom IS NULL OR t.departureDate >= :departureFrom) " +
+           "AND (:departureTo IS NULL OR t.departureDate < :departureTo) " +
+           "ORDER BY t.departureDate ASC, t.id ASC")
+    Stream<TripDto> streamTripsWithFilters(@Param("fromKey") String fromKey,
+                                       @Param("toKey") String toKey,
+                                       @Param("departureFrom") LocalDateTime departureFrom,
+                                       @Param("departureTo") LocalDateTime departureTo);
+    
+    @Query("SELECT new com.mounti.dto.TripDto(t.id, t.transporterId, t.transporterName, t.fromLocation, " +
+           "t.toLocation, t.departureDate, t.availableSeats, t.availableWeightKg, t.pricePerSeat, " +
+           "t.pricePerKg, t.notes, t.status, t.createdAt, t.version) " +
+           "FROM Trip t WHERE t.transporterId = :transporterId " +
+           "AND (:beforeDate IS NULL OR t.departureDate < :beforeDate " +
+           "     OR (t.departureDate = :beforeDate AND t.id < :beforeId)) " +
+           "ORDER BY t.departureDate DESC, t.id DESC")
+    List<TripDto> findPageByTransporterId(@Param("transporterId") UUID transporterId,
+                                       @Param("beforeDate") LocalDateTime beforeDate,
+                                       @Param("beforeId") UUID beforeId,
+                                       Limit limit);
+    
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.mounti.dto.TripDto(t.id, t.transporterId, t.transporterName, t.fromLocation, " +
+           "t.toLocation, t.departureDate, t.availableSeats, t.availableWeightKg, t.pricePerSeat, " +
+           "t.pricePerKg, t.notes, t.status, t.createdAt, t.version) " +
+           "FROM Trip t WHERE t.transporterId = :transporterId " +
+           "ORDER BY t.departureDate DESC, t.id DESC")
+    Stream<TripDto> streamByTransporterId(@Param("transporterId") UUID transporterId);
+    
+    @Query("SELECT t.version FROM Trip t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+    
+    // Straight from the table, never the second-level cache
+    @Query("SELECT new com.mounti.dto.TripDto(t.id, t.transporterId, t.transporterName, t.fromLocation, " +
+           "t.toLocation, t.departureDate, t.availableSeats, t.availableWeightKg, t.pricePerSeat, " +
+           "t.pricePerKg, t.notes, t.status, t.createdAt, t.version) " +
+           "FROM Trip t WHERE t.id = :id")
+    Optional<TripDto> findDtoById(@Param("id") UUID id);
     
     @Query("SELECT t FROM Trip t WHERE t.status = 'ACTIVE' " +
            "AND t.departureDate > :currentDate " +
@@ -33,6 +102,6 @@ public interface TripRepository extends JpaRepository<Trip, String> {
     @Query("SELECT t FROM Trip t WHERE t.transporterId = :transporterId " +
            "AND t.status = :status " +
            "ORDER BY t.departureDate DESC")
-    List<Trip> findByTransporterIdAndStatus(@Param("transporterId") String transporterId,
+    List<Trip> findByTransporterIdAndStatus(@Param("transporterId") UUID transporterId,
                                            @Param("status") Trip.TripStatus status);
 }
\ No newline at end of file
@@ -7,8 +7,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,7 +21,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -31,10 +35,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            VerifiedToken verified = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+
+            UserPrincipal userDetails = null;
+            if (verified != null) {
+                userDetails = verified.getPrincipal();
+                if (userDetails == null) {
+                    // Token predates the user claims: fall back to a (cached) lookup
+                    userDetails = userPrincipalCache.get(verified.getSubject(),
+                            email -> (UserPrincipal) userDetailsService.loadUserByUsername(email));
+                }
+            } else if (jwt == null && "/notifications/stream".equals(request.getServletPath())) {
+                // EventSource cannot send headers, so the stream is opened with a single-use ticket
+                userDetails = streamTicketService.redeem(request.getParameter("ticket"));
+            }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = 
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -9,29 +9,50 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+    private static final String TRANSPORTER_CLAIM = "transporter";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            VerifiedTokenCache verifiedTokenCache) {
+        this.jwtExpiration = jwtExpiration;
+        // Key derivation and parser construction happen once; JwtParser is immutable and thread-safe
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        if (userDetails instanceof UserPrincipal userPrincipal) {
+            return generateToken(userPrincipal);
+        }
+        return generateTokenFromUsername(userDetails.getUsername());
+    }
+
+    // Carries everything the request path needs so the filter never has to load the user
+    public String generateToken(UserPrincipal userPrincipal) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
 
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .claim(USER_ID_CLAIM, userPrincipal.getId().toString())
+                .claim(NAME_CLAIM, userPrincipal.getName())
+                .claim(TRANSPORTER_CLAIM, userPrincipal.getIsTransporter())
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -42,27 +63,31 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
-    }
+    /**
+     * Verifies the signature and expiry and extracts everything the request path
+     * needs in a single parse. Returns null for invalid or expired tokens.
+     * Verified tokens are cached until their exp, so repeat requests skip the
+     * HMAC and JSON work entirely.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                toPrincipal(claims),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+            );
+            verifiedTokenCache.put(token, verified);
+            return verified;
         } catch (MalformedJwtException e) {
             System.err.println("Invalid JWT token: " + e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -72,6 +97,44 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             System.err.println("JWT claims string is empty: " + e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    public String getUsernameFromToken(String token) {
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.getSubject() : null;
+    }
+
+    /**
+     * Rebuilds the principal from the token claims, or returns null for tokens
+     * issued without them.
+     */
+    public UserPrincipal getPrincipalFromToken(String token) {
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.getPrincipal() : null;
+    }
+
+    public boolean validateToken(String authToken) {
+        return verify(authToken) != null;
+    }
+
+    private UserPrincipal toPrincipal(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            // Issued before ids became UUIDs; resolve the user by email like a pre-claims token
+            return null;
+        }
+        return UserPrincipal.fromClaims(
+            id,
+            claims.getSubject(),
+            claims.get(NAME_CLAIM, String.class),
+            claims.get(TRANSPORTER_CLAIM, Boolean.class)
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.mounti.security;
+
+// Thrown when the password hashing pool can't take or finish a hash in time; answered with 503
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException() {
+        super("Password hashing is at capacity");
+    }
+}
\ No newline at end of file
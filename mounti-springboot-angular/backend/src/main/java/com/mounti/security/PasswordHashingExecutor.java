@@ -0,0 +1,167 @@
+package com.mounti.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a small dedicated pool instead of the request
+ * threads. The pool has one thread per CPU by default and a short bounded
+ * queue: when the queue is full the caller gets PasswordHashingBusyException
+ * straight away, and so does a caller whose hash hasn't finished within the
+ * wait timeout, rather than holding a request thread indefinitely. A login
+ * burst then costs at most the pool's CPUs and a bounded number of waiting
+ * requests, and every other endpoint keeps its threads.
+ *
+ * Time spent queued and hashing is added up per request thread, so
+ * {@link #timeRequest} can split a request's latency into queue, hashing and
+ * everything else.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 means one per available processor
+    @Value("${password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${password-hashing.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${password-hashing.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    private final ThreadLocal<long[]> requestNanos = ThreadLocal.withInitial(() -> new long[2]);
+    private ThreadPoolExecutor pool;
+    private Counter rejectedCounter;
+    private Timer queueWaitTimer;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        pool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+        rejectedCounter = meterRegistry.counter("auth.password.rejected");
+        queueWaitTimer = Timer.builder("auth.password.queue.wait")
+            .description("Time a password hash waited for a hashing thread")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", pool, p -> p.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.active", pool, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes in progress")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Runs the hash on the pool and waits for it. Throws PasswordHashingBusyException
+     * when the queue is full or the hash doesn't finish within the wait timeout.
+     */
+    public <T> T execute(String operation, Supplier<T> hash) {
+        long submitted = System.nanoTime();
+        AtomicLong started = new AtomicLong();
+        Future<T> future;
+        try {
+            future = pool.submit(() -> {
+                started.set(System.nanoTime());
+                try {
+                    return hash.get();
+                } finally {
+                    hashTimer(operation).record(System.nanoTime() - started.get(), TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+        } finally {
+            long done = System.nanoTime();
+            long start = started.get();
+            long queued = (start != 0 ? start : done) - submitted;
+            queueWaitTimer.record(queued, TimeUnit.NANOSECONDS);
+            long[] request = requestNanos.get();
+            request[0] += queued;
+            request[1] += done - submitted - queued;
+        }
+    }
+
+    /**
+     * Runs a whole request on the calling thread and records its latency split into
+     * time queued for hashing, time hashing, and everything else.
+     */
+    public <T> T timeRequest(String endpoint, Supplier<T> request) {
+        long[] nanos = requestNanos.get();
+        nanos[0] = 0;
+        nanos[1] = 0;
+        long start = System.nanoTime();
+        try {
+            return request.get();
+        } finally {
+            long total = System.nanoTime() - start;
+            requestTimer(endpoint, "queue").record(nanos[0], TimeUnit.NANOSECONDS);
+            requestTimer(endpoint, "hashing").record(nanos[1], TimeUnit.NANOSECONDS);
+            requestTimer(endpoint, "other").record(Math.max(0, total - nanos[0] - nanos[1]), TimeUnit.NANOSECONDS);
+            requestNanos.remove();
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("auth.password.hash")
+            .description("Time spent computing one password hash")
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Timer requestTimer(String endpoint, String phase) {
+        return Timer.builder("auth.requests")
+            .description("Sign-in and sign-up latency by phase")
+            .tags("endpoint", endpoint, "phase", phase)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.mounti.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the RateLimiter budgets to the expensive routes: sign-in and sign-up
+ * (BCrypt) and placing bookings (capacity update plus inserts). Runs after
+ * JwtAuthenticationFilter, so authenticated callers are limited per user and
+ * everyone else per client address.
+ *
+ * Not a bean: Spring Boot would also register it as a servlet filter, and that
+ * earlier run, before authentication, would mark the request as filtered.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String budget = budgetFor(request);
+        if (budget != null) {
+            long waitNanos = rateLimiter.tryAcquire(budget, clientKey(request));
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.getWriter().write("Error: Too many requests, retry in " + retryAfterSeconds + " s");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || !"POST".equals(request.getMethod());
+    }
+
+    // The container's decoded, normalized path, which is what MVC routes on; the raw URI
+    // would let "/auth/%6Cogin" or "/auth/login/" reach the handler without a budget
+    private static String budgetFor(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (request.getPathInfo() != null) {
+            path += request.getPathInfo();
+        }
+        while (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        switch (path) {
+            case "/auth/login":
+            case "/auth/register":
+                return RateLimiter.AUTH;
+            case "/bookings":
+            case "/bookings/batch":
+                return RateLimiter.BOOKINGS;
+            default:
+                return null;
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            return "user:" + ((UserPrincipal) authentication.getPrincipal()).getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
\ No newline at end of file
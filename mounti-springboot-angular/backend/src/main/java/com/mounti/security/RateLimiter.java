@@ -0,0 +1,142 @@
+package com.mounti.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per client, one set per budget. A bucket is a single
+ * AtomicLong holding the time at which it will be full again: taking a token
+ * pushes that time one refill interval later, and the request is refused when
+ * it would end up more than a full bucket's worth of refill ahead of now.
+ * That is a token bucket that needs no lock and no refill task, and the
+ * refusal comes with the exact wait.
+ *
+ * A bucket that is full again is no different from a new one, so buckets idle
+ * for a while are swept. When a budget holds max-buckets clients and nothing
+ * is idle, further new clients share one overflow bucket until room frees up.
+ */
+@Component
+public class RateLimiter {
+
+    public static final String AUTH = "auth";
+    public static final String BOOKINGS = "bookings";
+
+    private static final String OVERFLOW_KEY = "*";
+    private static final long FULL_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final long idleNanos;
+    private final int maxBuckets;
+    private final Map<String, Budget> budgets;
+
+    public RateLimiter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+                       @Value("${rate-limit.auth.per-minute:10}") int authPerMinute,
+                       @Value("${rate-limit.bookings.capacity:20}") int bookingsCapacity,
+                       @Value("${rate-limit.bookings.per-minute:30}") int bookingsPerMinute,
+                       @Value("${rate-limit.idle-eviction-seconds:300}") long idleEvictionSeconds,
+                       @Value("${rate-limit.max-buckets:100000}") int maxBuckets,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleEvictionSeconds);
+        this.maxBuckets = maxBuckets;
+        this.budgets = Map.of(
+            AUTH, new Budget(AUTH, authCapacity, authPerMinute, meterRegistry),
+            BOOKINGS, new Budget(BOOKINGS, bookingsCapacity, bookingsPerMinute, meterRegistry));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes one token from the client's bucket in the given budget. Returns 0 when
+     * the request may proceed, otherwise the nanoseconds until a token is available.
+     */
+    public long tryAcquire(String budgetName, String clientKey) {
+        Budget budget = budgets.get(budgetName);
+        long now = System.nanoTime();
+        AtomicLong bucket = budget.bucket(clientKey, now);
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + budget.intervalNanos;
+            long ahead = next - now;
+            if (ahead > budget.burstNanos) {
+                budget.rejected.increment();
+                return ahead - budget.burstNanos;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                budget.allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // A request racing the sweep may still take from a removed bucket; it was full, so at most one token is lost
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (Budget budget : budgets.values()) {
+            budget.evictIdle(now);
+        }
+    }
+
+    private final class Budget {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejected;
+        private final Counter evicted;
+        private final AtomicLong lastFullSweep = new AtomicLong(System.nanoTime() - FULL_SWEEP_INTERVAL_NANOS);
+
+        private Budget(String name, int capacity, int perMinute, MeterRegistry meterRegistry) {
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+            this.burstNanos = intervalNanos * capacity;
+            this.allowed = meterRegistry.counter("ratelimit.requests", "budget", name, "outcome", "allowed");
+            this.rejected = meterRegistry.counter("ratelimit.requests", "budget", name, "outcome", "rejected");
+            this.evicted = meterRegistry.counter("ratelimit.buckets.evicted", "budget", name);
+            Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .tag("budget", name)
+                .description("Clients with a bucket in this budget")
+                .register(meterRegistry);
+        }
+
+        private AtomicLong bucket(String clientKey, long now) {
+            AtomicLong bucket = buckets.get(clientKey);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxBuckets) {
+                // Sweeps walk every bucket, so a flood of new clients triggers at most one a second
+                long last = lastFullSweep.get();
+                if (now - last >= FULL_SWEEP_INTERVAL_NANOS && lastFullSweep.compareAndSet(last, now)) {
+                    evictIdle(now);
+                }
+                if (buckets.size() >= maxBuckets) {
+                    clientKey = OVERFLOW_KEY;
+                }
+            }
+            return buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now));
+        }
+
+        private void evictIdle(long now) {
+            buckets.values().removeIf(bucket -> {
+                if (now - bucket.get() < idleNanos) {
+                    return false;
+                }
+                evicted.increment();
+                return true;
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.mounti.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived, single-use tickets for opening the notification stream.
+ * EventSource cannot send headers, so the stream URL carries one of these,
+ * issued to an authenticated caller, instead of the bearer token, which would
+ * otherwise end up in proxy access logs and browser history. A ticket is
+ * removed when it is redeemed; unredeemed ones are swept once expired.
+ */
+@Component
+public class StreamTicketService {
+
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxTickets;
+
+    public StreamTicketService(@Value("${notifications.stream.ticket-ttl-seconds:30}") long ttlSeconds,
+                               @Value("${notifications.stream.max-tickets:10000}") int maxTickets) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxTickets = maxTickets;
+    }
+
+    // Null when too many tickets are outstanding
+    public String issue(UserPrincipal principal) {
+        if (tickets.size() >= maxTickets) {
+            evictExpired();
+            if (tickets.size() >= maxTickets) {
+                return null;
+            }
+        }
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(principal, System.currentTimeMillis() + ttlMillis));
+        return ticket;
+    }
+
+    public UserPrincipal redeem(String ticket) {
+        Ticket redeemed = ticket != null ? tickets.remove(ticket) : null;
+        return redeemed != null && redeemed.expiresAt > System.currentTimeMillis() ? redeemed.principal : null;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.stream.ticket-sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.expiresAt <= now);
+    }
+
+    private record Ticket(UserPrincipal principal, long expiresAt) {}
+}
\ No newline at end of file
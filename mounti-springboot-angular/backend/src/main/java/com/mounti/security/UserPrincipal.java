@@ -7,16 +7,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public class UserPrincipal implements UserDetails {
-    private String id;
+    private UUID id;
     private String email;
     private String password;
     private String name;
     private Boolean isTransporter;
     private Collection<? extends GrantedAuthority> authorities;
 
-    public UserPrincipal(String id, String email, String password, String name, 
+    public UserPrincipal(UUID id, String email, String password, String name, 
                         Boolean isTransporter, Collection<? extends GrantedAuthority> authorities) {
         this.id = id;
         this.email = email;
@@ -27,21 +28,28 @@ public class UserPrincipal implements UserDetails {
     }
 
     public static UserPrincipal create(User user) {
-        List<GrantedAuthority> authorities = List.of(
-            new SimpleGrantedAuthority(user.getIsTransporter() ? "ROLE_TRANSPORTER" : "ROLE_CLIENT")
-        );
-
         return new UserPrincipal(
             user.getId(),
             user.getEmail(),
             user.getPassword(),
             user.getName(),
             user.getIsTransporter(),
-            authorities
+            authoritiesFor(user.getIsTransporter())
+        );
+    }
+
+    // Built from verified token claims; there is no password to carry around
+    public static UserPrincipal fromClaims(UUID id, String email, String name, Boolean isTransporter) {
+        return new UserPrincipal(id, email, null, name, isTransporter, authoritiesFor(isTransporter));
+    }
+
+    private static List<GrantedAuthority> authoritiesFor(Boolean isTransporter) {
+        return List.of(
+            new SimpleGrantedAuthority(Boolean.TRUE.equals(isTransporter) ? "ROLE_TRANSPORTER" : "ROLE_CLIENT")
         );
     }
 
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
@@ -0,0 +1,84 @@
+package com.mounti.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of principals loaded from the database, for tokens that do
+ * not carry the user claims (issued before they were added). Entries expire
+ * after a fixed TTL so role changes are picked up eventually, and are evicted
+ * right away when the user row changes. Reads take no lock; the size cap is
+ * kept the same way as in VerifiedTokenCache.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final long FULL_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastFullSweep = new AtomicLong();
+
+    public UserPrincipalCache(@Value("${jwt.principal-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null) {
+            if (entry.expiresAt > now) {
+                return entry.principal;
+            }
+            entries.remove(email, entry);
+        }
+        UserPrincipal principal = loader.apply(email);
+        if (entries.size() >= maxSize) {
+            long last = lastFullSweep.get();
+            if (now - last >= FULL_SWEEP_INTERVAL_MILLIS && lastFullSweep.compareAndSet(last, now)) {
+                makeRoom(now);
+            }
+            if (entries.size() >= maxSize) {
+                return principal;
+            }
+        }
+        entries.put(email, new Entry(principal, now + ttlMillis));
+        return principal;
+    }
+
+    public void evict(String email) {
+        entries.remove(email);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.principal-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    private void makeRoom(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        Iterator<Entry> all = entries.values().iterator();
+        while (entries.size() > maxSize - Math.max(1, maxSize / 10) && all.hasNext()) {
+            all.next();
+            all.remove();
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {}
+}
\ No newline at end of file
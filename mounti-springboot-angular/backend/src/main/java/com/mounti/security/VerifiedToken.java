@@ -0,0 +1,27 @@
+package com.mounti.security;
+
+/**
+ * Result of verifying a JWT once: its subject, the principal rebuilt from its
+ * claims (null for tokens issued without them) and its expiry in epoch millis.
+ */
+public class VerifiedToken {
+    private final String subject;
+    private final UserPrincipal principal;
+    private final long expiresAt;
+
+    public VerifiedToken(String subject, UserPrincipal principal, long expiresAt) {
+        this.subject = subject;
+        this.principal = principal;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() { return subject; }
+
+    public UserPrincipal getPrincipal() { return principal; }
+
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
\ No newline at end of file
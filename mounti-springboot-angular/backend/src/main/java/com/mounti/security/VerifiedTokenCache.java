@@ -0,0 +1,81 @@
+package com.mounti.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified, keyed by
+ * the exact compact token. Reads take no lock. Entries are dropped once the
+ * token's exp passes, on read and by a periodic sweep; a full cache is swept
+ * at most once a second, and when nothing has expired an arbitrary tenth of
+ * the entries makes room.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long FULL_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private final AtomicLong lastFullSweep = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        VerifiedToken verified = tokens.get(token);
+        if (verified != null && verified.isExpired(System.currentTimeMillis())) {
+            tokens.remove(token, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled) {
+            return;
+        }
+        if (tokens.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            long last = lastFullSweep.get();
+            if (now - last >= FULL_SWEEP_INTERVAL_MILLIS && lastFullSweep.compareAndSet(last, now)) {
+                makeRoom(now);
+            }
+            if (tokens.size() >= maxSize) {
+                return;
+            }
+        }
+        tokens.put(token, verified);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(verified -> verified.isExpired(now));
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void makeRoom(long now) {
+        tokens.values().removeIf(verified -> verified.isExpired(now));
+        Iterator<VerifiedToken> entries = tokens.values().iterator();
+        while (tokens.size() > maxSize - Math.max(1, maxSize / 10) && entries.hasNext()) {
+            entries.next();
+            entries.remove();
+        }
+    }
+}
\ No newline at end of file
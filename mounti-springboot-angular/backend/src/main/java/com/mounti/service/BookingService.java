@@ -1,21 +1,34 @@
 package com.mounti.service;
 
+import com.mounti.config.PaginationProperties;
 import com.mounti.dto.BookingDto;
+import com.mounti.dto.BookingExportDto;
 import com.mounti.dto.BookingRequest;
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.TripLoadDto;
 import com.mounti.entity.Booking;
 import com.mounti.entity.Notification;
 import com.mounti.entity.Trip;
 import com.mounti.entity.User;
 import com.mounti.repository.BookingRepository;
-import com.mounti.repository.NotificationRepository;
 import com.mounti.repository.TripRepository;
 import com.mounti.repository.UserRepository;
+import com.mounti.util.Ids;
+import com.mounti.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class BookingService {
@@ -30,66 +43,132 @@ public class BookingService {
     private UserRepository userRepository;
 
     @Autowired
-    private NotificationRepository notificationRepository;
+    private NotificationService notificationService;
 
+    @Autowired
+    private TripCapacityService tripCapacityService;
+
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Transactional
     public BookingDto createBooking(BookingRequest bookingRequest, String email) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         Trip trip = tripRepository.findById(bookingRequest.getTripId())
             .orElseThrow(() -> new RuntimeException("Trip not found"));
+        if (trip.getStatus() != Trip.TripStatus.ACTIVE) {
+            throw new RuntimeException("Trip is no longer open for booking");
+        }
+
+        // Claim capacity atomically; rolls back with the booking if anything below fails
+        tripCapacityService.reserve(trip.getId(), bookingRequest.getBookingType(), bookingRequest.getQuantity());
 
-        // Check availability
-        if (bookingRequest.getBookingType() == Booking.BookingType.SEAT) {
-            if (bookingRequest.getQuantity() > trip.getAvailableSeats()) {
-                throw new RuntimeException("Not enough seats available");
+        Booking savedBooking = bookingRepository.save(newBooking(bookingRequest, trip, user));
+        notifyTransporter(bookingRequest, trip, user);
+
+        return convertToDto(savedBooking);
+    }
+
+    /**
+     * Books every request or none: capacity for all trips is claimed up front and any
+     * failure rolls the whole batch back. The inserts go out as JDBC batches at flush.
+     */
+    @Transactional
+    public List<BookingDto> createBookings(List<BookingRequest> bookingRequests, String email) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        List<UUID> tripIds = bookingRequests.stream().map(BookingRequest::getTripId).distinct().collect(Collectors.toList());
+        Map<UUID, Trip> trips = tripRepository.findAllById(tripIds).stream()
+            .collect(Collectors.toMap(Trip::getId, Function.identity()));
+
+        // Sorted, so concurrent batches take the trip row locks in the same order
+        Map<UUID, Integer> seatsByTrip = new TreeMap<>();
+        Map<UUID, Integer> weightByTrip = new TreeMap<>();
+        for (BookingRequest bookingRequest : bookingRequests) {
+            if (!trips.containsKey(bookingRequest.getTripId())) {
+                throw new RuntimeException("Trip not found: " + bookingRequest.getTripId());
             }
-        } else {
-            if (bookingRequest.getQuantity() > trip.getAvailableWeightKg()) {
-                throw new RuntimeException("Not enough weight capacity available");
+            if (trips.get(bookingRequest.getTripId()).getStatus() != Trip.TripStatus.ACTIVE) {
+                throw new RuntimeException("Trip is no longer open for booking: " + bookingRequest.getTripId());
             }
+            Map<UUID, Integer> quantities = bookingRequest.getBookingType() == Booking.BookingType.SEAT
+                ? seatsByTrip : weightByTrip;
+            quantities.merge(bookingRequest.getTripId(), bookingRequest.getQuantity(), Integer::sum);
+        }
+        tripCapacityService.reserveAll(seatsByTrip, weightByTrip);
+
+        List<Booking> bookings = new ArrayList<>(bookingRequests.size());
+        for (BookingRequest bookingRequest : bookingRequests) {
+            bookings.add(newBooking(bookingRequest, trips.get(bookingRequest.getTripId()), user));
+        }
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+
+        for (BookingRequest bookingRequest : bookingRequests) {
+            notifyTransporter(bookingRequest, trips.get(bookingRequest.getTripId()), user);
         }
 
+        return savedBookings.stream().map(this::convertToDto).collect(Collectors.toList());
+    }
+
+    private Booking newBooking(BookingRequest bookingRequest, Trip trip, User user) {
         // Calculate price
         double totalPrice = bookingRequest.getBookingType() == Booking.BookingType.SEAT
             ? bookingRequest.getQuantity() * trip.getPricePerSeat()
             : bookingRequest.getQuantity() * trip.getPricePerKg();
 
         Booking booking = new Booking();
-        booking.setId(UUID.randomUUID().toString());
-        booking.setTripId(bookingRequest.getTripId());
+        booking.setId(Ids.next());
+        booking.setTripId(trip.getId());
         booking.setClientId(user.getId());
         booking.setClientName(user.getName());
         booking.setBookingType(bookingRequest.getBookingType());
         booking.setQuantity(bookingRequest.getQuantity());
         booking.setTotalPrice(totalPrice);
         booking.setStatus(Booking.BookingStatus.PENDING);
+        return booking;
+    }
 
-        Booking savedBooking = bookingRepository.save(booking);
+    private void notifyTransporter(BookingRequest bookingRequest, Trip trip, User user) {
+        notificationService.send(
+            trip.getTransporterId(),
+            "New Booking Request",
+            String.format("%s wants to book %d %s(s) for your trip from %s to %s",
+                user.getName(), bookingRequest.getQuantity(),
+                bookingRequest.getBookingType().toString().toLowerCase(),
+                trip.getFromLocation(), trip.getToLocation()),
+            Notification.NotificationType.BOOKING_REQUEST);
+    }
 
-        // Create notification for transporter
-        Notification notification = new Notification();
-        notification.setId(UUID.randomUUID().toString());
-        notification.setUserId(trip.getTransporterId());
-        notification.setTitle("New Booking Request");
-        notification.setMessage(String.format("%s wants to book %d %s(s) for your trip from %s to %s",
-            user.getName(), bookingRequest.getQuantity(),
-            bookingRequest.getBookingType().toString().toLowerCase(),
-            trip.getFromLocation(), trip.getToLocation()));
-        notification.setType(Notification.NotificationType.BOOKING_REQUEST);
-        notificationRepository.save(notification);
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getMyBookings(String email, String cursor, Integer size) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
 
-        return convertToDto(savedBooking);
+        List<BookingDto> bookings = bookingRepository.findPageByClientId(
+            user.getId(),
+            before != null ? before.getSortKey() : null,
+            before != null ? before.getId() : null,
+            Limit.of(pageSize + 1));
+        return CursorPage.of(bookings, pageSize, BookingDto::getCreatedAt, BookingDto::getId);
     }
 
-    public List<BookingDto> getMyBookings(String email) {
+    // All of the client's bookings in page order, read through a cursor and handed over one at a time
+    @Transactional(readOnly = true)
+    public void forEachMyBooking(String email, Consumer<BookingDto> consumer) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
-        List<Booking> bookings = bookingRepository.findByClientId(user.getId());
-        return bookings.stream().map(this::convertToDto).collect(Collectors.toList());
+        try (Stream<BookingDto> bookings = bookingRepository.streamByClientId(user.getId())) {
+            bookings.forEach(consumer);
+        }
     }
 
-    public List<BookingDto> getTripBookings(String tripId, String email) {
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getTripBookings(UUID tripId, String email, String cursor, Integer size) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -100,11 +179,46 @@ public class BookingService {
             throw new RuntimeException("You can only view bookings for your own trips");
         }
 
-        List<Booking> bookings = bookingRepository.findByTripId(tripId);
-        return bookings.stream().map(this::convertToDto).collect(Collectors.toList());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
+
+        List<BookingDto> bookings = bookingRepository.findPageByTripId(
+            tripId,
+            after != null ? after.getSortKey() : null,
+            after != null ? after.getId() : null,
+            Limit.of(pageSize + 1));
+        return CursorPage.of(bookings, pageSize, BookingDto::getCreatedAt, BookingDto::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TripLoadDto> getTransporterDashboard(String email) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!user.getIsTransporter()) {
+            throw new RuntimeException("Only transporters have a booking dashboard");
+        }
+
+        return bookingRepository.findTripLoadsByTransporterId(user.getId());
     }
 
-    public void updateBookingStatus(String id, Booking.BookingStatus status, String email) {
+    // Every booking on the transporter's trips, read through a cursor and handed over one at a time
+    @Transactional(readOnly = true)
+    public void forEachTransporterBooking(String email, Consumer<BookingExportDto> consumer) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (!user.getIsTransporter()) {
+            throw new RuntimeException("Only transporters can export bookings");
+        }
+
+        try (Stream<BookingExportDto> bookings = bookingRepository.streamBookingsByTransporterId(user.getId())) {
+            bookings.forEach(consumer);
+        }
+    }
+
+    @Transactional
+    public void updateBookingStatus(UUID id, Booking.BookingStatus status, String email) {
         Booking booking = bookingRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Booking not found"));
 
@@ -118,20 +232,26 @@ public class BookingService {
             throw new RuntimeException("You can only update bookings for your own trips");
         }
 
+        // Cancelled bookings give their capacity back; reinstating one claims it again
+        if (status == Booking.BookingStatus.CANCELLED && booking.getStatus() != Booking.BookingStatus.CANCELLED) {
+            tripCapacityService.release(trip.getId(), booking.getBookingType(), booking.getQuantity());
+        } else if (status != Booking.BookingStatus.CANCELLED && booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            tripCapacityService.reserve(trip.getId(), booking.getBookingType(), booking.getQuantity());
+        }
+
         booking.setStatus(status);
         bookingRepository.save(booking);
 
-        // Create notification for client
-        Notification notification = new Notification();
-        notification.setId(UUID.randomUUID().toString());
-        notification.setUserId(booking.getClientId());
-        notification.setTitle("Booking Status Updated");
-        notification.setMessage(String.format("Your booking has been %s", status.toString().toLowerCase()));
-        notification.setType(Notification.NotificationType.BOOKING_CONFIRMED);
-        notificationRepository.save(notification);
+        // Notify client
+        notificationService.send(
+            booking.getClientId(),
+            "Booking Status Updated",
+            String.format("Your booking has been %s", status.toString().toLowerCase()),
+            Notification.NotificationType.BOOKING_CONFIRMED);
     }
 
-    public BookingDto getBookingById(String id) {
+    @Transactional(readOnly = true)
+    public BookingDto getBookingById(UUID id) {
         Booking booking = bookingRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Booking not found"));
         return convertToDto(booking);
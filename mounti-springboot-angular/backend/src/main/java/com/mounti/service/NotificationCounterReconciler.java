@@ -0,0 +1,95 @@
+package com.mounti.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically compares every user's unread counter with the notifications
+ * table and corrects the ones that drifted (a crash between writes, manual
+ * data fixes, rows written before the counters existed).
+ *
+ * Each correction locks the counter row before counting. The outbox and
+ * mark-read both update the counter in the same transaction as the
+ * notification, so once the lock is held every change that touched the
+ * counter is committed and visible to the count.
+ */
+@Component
+public class NotificationCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationCounterReconciler.class);
+
+    private static final String DRIFT_SQL =
+        "SELECT u.id FROM users u " +
+        "LEFT JOIN notification_counters c ON c.user_id = u.id " +
+        "LEFT JOIN notifications n ON n.user_id = u.id AND n.is_read = FALSE " +
+        "GROUP BY u.id, c.unread_count " +
+        "HAVING c.unread_count IS NULL OR c.unread_count <> COUNT(n.id)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter correctedCounter;
+
+    @PostConstruct
+    public void init() {
+        correctedCounter = meterRegistry.counter("notifications.unread.corrected");
+    }
+
+    @Scheduled(initialDelayString = "${notifications.unread-counter.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${notifications.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        List<UUID> drifted = jdbcTemplate.queryForList(DRIFT_SQL, UUID.class);
+        int corrected = 0;
+        for (UUID userId : drifted) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> correct(userId)))) {
+                    corrected++;
+                    notificationStreamService.unreadCountChanged(userId);
+                }
+            } catch (DuplicateKeyException e) {
+                // The outbox created the counter concurrently; the next run checks it again
+            }
+        }
+        if (corrected > 0) {
+            correctedCounter.increment(corrected);
+            log.warn("Corrected unread notification counters for {} users", corrected);
+        }
+    }
+
+    private boolean correct(UUID userId) {
+        List<Long> stored = jdbcTemplate.queryForList(
+            "SELECT unread_count FROM notification_counters WHERE user_id = ? FOR UPDATE", Long.class, userId);
+        Long actual = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = FALSE", Long.class, userId);
+        if (stored.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?)", userId, actual);
+            return true;
+        }
+        if (!stored.get(0).equals(actual)) {
+            jdbcTemplate.update("UPDATE notification_counters SET unread_count = ? WHERE user_id = ?", actual, userId);
+            return true;
+        }
+        return false;
+    }
+}
\ No newline at end of file
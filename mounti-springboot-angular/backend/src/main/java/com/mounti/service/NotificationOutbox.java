@@ -0,0 +1,308 @@
+package com.mounti.service;
+
+import com.mounti.entity.Notification;
+import com.mounti.event.NotificationEvent;
+import com.mounti.event.NotificationsStoredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transactional outbox for notifications. Request threads only add a row to
+ * notification_outbox, in the transaction that publishes the event, and queue
+ * it once that commits; a small worker pool drains the queue and writes
+ * notifications with JDBC batch inserts.
+ *
+ * A notification therefore exists exactly when the booking that caused it
+ * committed. Workers delete outbox rows in the same transaction that writes
+ * their notifications, so rows left behind by a crash or shutdown are the ones
+ * still owed, and are replayed on startup; ids are fixed at publication and
+ * duplicates are skipped, so a replay never doubles a notification.
+ */
+@Component
+public class NotificationOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    private static final String RECORD_SQL =
+        "INSERT INTO notification_outbox (id, user_id, title, message, type, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String PENDING_SQL =
+        "SELECT id, user_id, title, message, type, created_at FROM notification_outbox ORDER BY id";
+
+    private static final String DELETE_RECORD_SQL =
+        "DELETE FROM notification_outbox WHERE id = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notifications (id, user_id, title, message, type, is_read, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, FALSE, ?)";
+
+    private static final String INCREMENT_COUNTER_SQL =
+        "MERGE INTO notification_counters c " +
+        "USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT))) AS s (user_id, unread_count) ON c.user_id = s.user_id " +
+        "WHEN MATCHED THEN UPDATE SET unread_count = c.unread_count + s.unread_count " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, unread_count) VALUES (s.user_id, s.unread_count)";
+
+    private static final String NOTIFICATION_EXISTS_SQL =
+        "SELECT COUNT(*) FROM notifications WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${notifications.outbox.workers:2}")
+    private int workers;
+
+    @Value("${notifications.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notifications.outbox.poll-interval-ms:50}")
+    private long pollIntervalMs;
+
+    @Value("${notifications.outbox.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    private ExecutorService workerPool;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        flushTimer = Timer.builder("notifications.outbox.flush")
+            .description("Time spent writing one batch of notifications")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        writtenCounter = meterRegistry.counter("notifications.outbox.written");
+        droppedCounter = meterRegistry.counter("notifications.outbox.dropped");
+        Gauge.builder("notifications.outbox.depth", queue, BlockingQueue::size)
+            .description("Notifications waiting to be written")
+            .register(meterRegistry);
+    }
+
+    // Workers start once the schema and seed data exist, so replayed rows have their users to point at
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        replayPending();
+        running = true;
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workerPool != null) {
+            workerPool.shutdown();
+            workerPool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        // Anything still queued keeps its outbox row and is replayed on the next start
+    }
+
+    /**
+     * Records the notification in the publishing transaction, so it commits or
+     * rolls back with the booking, and queues it once that transaction commits.
+     */
+    @EventListener
+    public void publish(NotificationEvent event) {
+        jdbcTemplate.update(RECORD_SQL, event.getId(), event.getUserId(), event.getTitle(), event.getMessage(),
+            event.getType().name(), Timestamp.valueOf(event.getCreatedAt()));
+        Entry entry = new Entry(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.add(entry);
+                }
+            });
+        } else {
+            queue.add(entry);
+        }
+    }
+
+    private void replayPending() {
+        List<NotificationEvent> pending = jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> new NotificationEvent(
+            rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class), rs.getString("title"),
+            rs.getString("message"), Notification.NotificationType.valueOf(rs.getString("type")),
+            rs.getTimestamp("created_at").toLocalDateTime()));
+        pending.forEach(event -> queue.add(new Entry(event)));
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} notifications from the outbox", pending.size());
+        }
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                List<Entry> unwritten = batch.stream().filter(entry -> !entry.done).toList();
+                log.error("Notification outbox flush failed, retrying {} notifications", unwritten.size(), e);
+                queue.addAll(unwritten);
+                sleepQuietly(retryDelayMs);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> writeBatch(batch)));
+            completed(batch);
+            stored(batch);
+        } catch (DataIntegrityViolationException e) {
+            List<Entry> inserted = new ArrayList<>(batch.size());
+            // One bad row (e.g. an unknown user) must not block the others: retry row by row
+            for (Entry entry : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(entry)));
+                    completed(List.of(entry));
+                    inserted.add(entry);
+                } catch (DuplicateKeyException duplicate) {
+                    if (isWritten(entry)) {
+                        // Queued both by its request and by the startup replay
+                        jdbcTemplate.update(DELETE_RECORD_SQL, entry.event.getId());
+                        completed(List.of(entry));
+                    } else {
+                        // Another worker created the user's counter first; the row rolled back, so try again
+                        queue.add(entry);
+                    }
+                } catch (DataIntegrityViolationException rowFailure) {
+                    log.warn("Dropping notification {} for user {}: {}",
+                        entry.event.getId(), entry.event.getUserId(), rowFailure.getMostSpecificCause().getMessage());
+                    jdbcTemplate.update(DELETE_RECORD_SQL, entry.event.getId());
+                    droppedCounter.increment();
+                    entry.done = true;
+                }
+            }
+            stored(inserted);
+        }
+    }
+
+    private void stored(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new NotificationsStoredEvent(
+                entries.stream().map(entry -> entry.event).toList()));
+        } catch (RuntimeException e) {
+            // Rows are already committed; a failing listener must not make them retry
+            log.warn("Notification listener failed", e);
+        }
+    }
+
+    // Notifications, their users' unread counters and the outbox cleanup commit together
+    private void writeBatch(List<Entry> batch) {
+        insertBatch(batch);
+        jdbcTemplate.batchUpdate(DELETE_RECORD_SQL, batch, batchSize,
+            (statement, entry) -> statement.setObject(1, entry.event.getId()));
+
+        // Sorted so concurrent workers lock counter rows in the same order
+        TreeMap<UUID, Integer> unreadByUser = new TreeMap<>();
+        for (Entry entry : batch) {
+            unreadByUser.merge(entry.event.getUserId(), 1, Integer::sum);
+        }
+        List<Object[]> increments = new ArrayList<>(unreadByUser.size());
+        unreadByUser.forEach((userId, count) -> increments.add(new Object[] { userId, count }));
+        jdbcTemplate.batchUpdate(INCREMENT_COUNTER_SQL, increments);
+    }
+
+    private boolean isWritten(Entry entry) {
+        Integer rows = jdbcTemplate.queryForObject(NOTIFICATION_EXISTS_SQL, Integer.class, entry.event.getId());
+        return rows != null && rows > 0;
+    }
+
+    private void insertBatch(List<Entry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, (statement, entry) -> {
+            NotificationEvent event = entry.event;
+            statement.setObject(1, event.getId());
+            statement.setObject(2, event.getUserId());
+            statement.setString(3, event.getTitle());
+            statement.setString(4, event.getMessage());
+            statement.setString(5, event.getType().name());
+            statement.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+
+    private void completed(List<Entry> entries) {
+        writtenCounter.increment(entries.size());
+        for (Entry entry : entries) {
+            entry.done = true;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Entry {
+        private final NotificationEvent event;
+        private boolean done;
+
+        private Entry(NotificationEvent event) {
+            this.event = event;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.mounti.service;
+
+import com.mounti.repository.NotificationCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Enforces notification retention: read notifications older than
+ * {@code read-max-age-days} are deleted, and each user keeps at most
+ * {@code max-per-user} notifications (newest first). Either limit is off
+ * when set to 0.
+ *
+ * Rows go in chunks of {@code batch-size}, each chunk in its own short
+ * transaction with a pause in between, so a large backlog never holds
+ * locks for long. Unread rows removed by the per-user cap are first
+ * marked read in the same transaction, taking row and counter locks in
+ * the same order as mark-read and the outbox.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    private static final String EXPIRED_CHUNK_SQL =
+        "SELECT id FROM notifications WHERE is_read = TRUE AND created_at < :cutoff " +
+        "ORDER BY created_at FETCH FIRST :limit ROWS ONLY";
+
+    private static final String OVER_CAP_USERS_SQL =
+        "SELECT user_id FROM notifications GROUP BY user_id HAVING COUNT(*) > :maxPerUser";
+
+    // Newest notification beyond the cap; it and everything older goes
+    private static final String CAP_BOUNDARY_SQL =
+        "SELECT created_at, id FROM notifications WHERE user_id = :userId " +
+        "ORDER BY created_at DESC, id DESC OFFSET :maxPerUser ROWS FETCH NEXT 1 ROWS ONLY";
+
+    private static final String OVER_CAP_CHUNK_SQL =
+        "SELECT id FROM notifications WHERE user_id = :userId " +
+        "AND (created_at < :boundaryDate OR (created_at = :boundaryDate AND id <= :boundaryId)) " +
+        "ORDER BY created_at, id FETCH FIRST :limit ROWS ONLY";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationCounterRepository notificationCounterRepository;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notifications.retention.read-max-age-days:90}")
+    private int readMaxAgeDays;
+
+    @Value("${notifications.retention.max-per-user:500}")
+    private int maxPerUser;
+
+    @Value("${notifications.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notifications.retention.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    private Timer purgeTimer;
+    private Counter expiredCounter;
+    private Counter overCapCounter;
+
+    @PostConstruct
+    public void init() {
+        purgeTimer = Timer.builder("notifications.retention.run")
+            .description("Time spent on one retention run, pauses included")
+            .register(meterRegistry);
+        expiredCounter = Counter.builder("notifications.retention.purged")
+            .tag("reason", "expired")
+            .register(meterRegistry);
+        overCapCounter = Counter.builder("notifications.retention.purged")
+            .tag("reason", "over-cap")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${notifications.retention.initial-delay-ms:120000}",
+               fixedDelayString = "${notifications.retention.interval-ms:3600000}")
+    public void purge() {
+        purgeTimer.record(() -> {
+            try {
+                long expired = readMaxAgeDays > 0 ? purgeExpired() : 0;
+                long overCap = maxPerUser > 0 ? purgeOverCap() : 0;
+                if (expired + overCap > 0) {
+                    log.info("Purged {} expired and {} over-cap notifications", expired, overCap);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private long purgeExpired() throws InterruptedException {
+        MapSqlParameterSource chunk = new MapSqlParameterSource()
+            .addValue("cutoff", Timestamp.valueOf(LocalDateTime.now().minusDays(readMaxAgeDays)))
+            .addValue("limit", batchSize);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<UUID> ids = jdbcTemplate.queryForList(EXPIRED_CHUNK_SQL, chunk, UUID.class);
+                return ids.isEmpty() ? 0 : jdbcTemplate.update(
+                    "DELETE FROM notifications WHERE id IN (:ids) AND is_read = TRUE", Map.of("ids", ids));
+            });
+            purged += deleted;
+            expiredCounter.increment(deleted);
+        } while (deleted > 0 && pause());
+        return purged;
+    }
+
+    private long purgeOverCap() throws InterruptedException {
+        List<UUID> users = jdbcTemplate.queryForList(OVER_CAP_USERS_SQL, Map.of("maxPerUser", maxPerUser), UUID.class);
+        long purged = 0;
+        for (UUID userId : users) {
+            List<Map<String, Object>> boundary = jdbcTemplate.queryForList(CAP_BOUNDARY_SQL,
+                Map.of("userId", userId, "maxPerUser", maxPerUser));
+            if (boundary.isEmpty()) {
+                continue;
+            }
+            MapSqlParameterSource chunk = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("boundaryDate", boundary.get(0).get("created_at"))
+                .addValue("boundaryId", boundary.get(0).get("id"))
+                .addValue("limit", batchSize);
+            int deleted;
+            do {
+                int[] result = transactionTemplate.execute(status -> deleteOverCapChunk(userId, chunk));
+                deleted = result[0];
+                if (result[1] > 0) {
+                    notificationStreamService.unreadCountChanged(userId);
+                }
+                purged += deleted;
+                overCapCounter.increment(deleted);
+            } while (deleted > 0 && pause());
+        }
+        return purged;
+    }
+
+    // Returns {deleted, unread among them}
+    private int[] deleteOverCapChunk(UUID userId, MapSqlParameterSource chunk) {
+        List<UUID> ids = jdbcTemplate.queryForList(OVER_CAP_CHUNK_SQL, chunk, UUID.class);
+        if (ids.isEmpty()) {
+            return new int[] { 0, 0 };
+        }
+        Map<String, Object> params = Map.of("ids", ids, "userId", userId);
+        int unread = jdbcTemplate.update(
+            "UPDATE notifications SET is_read = TRUE WHERE id IN (:ids) AND user_id = :userId AND is_read = FALSE", params);
+        if (unread > 0) {
+            notificationCounterRepository.decrement(userId, unread);
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM notifications WHERE id IN (:ids) AND user_id = :userId", params);
+        return new int[] { deleted, unread };
+    }
+
+    private boolean pause() throws InterruptedException {
+        if (batchPauseMs > 0) {
+            Thread.sleep(batchPauseMs);
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -1,15 +1,26 @@
 package com.mounti.service;
 
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.MarkReadRequest;
 import com.mounti.dto.NotificationDto;
 import com.mounti.entity.Notification;
 import com.mounti.entity.User;
+import com.mounti.event.NotificationEvent;
+import com.mounti.repository.NotificationCounterRepository;
 import com.mounti.repository.NotificationRepository;
 import com.mounti.repository.UserRepository;
+import com.mounti.util.Ids;
+import com.mounti.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @Service
 public class NotificationService {
@@ -17,48 +28,74 @@ public class NotificationService {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationCounterRepository notificationCounterRepository;
+
     @Autowired
     private UserRepository userRepository;
 
-    public List<NotificationDto> getNotifications(String email) {
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
-        return notifications.stream().map(this::convertToDto).collect(Collectors.toList());
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    // Written asynchronously by NotificationOutbox once the caller's transaction commits
+    public void send(UUID userId, String title, String message, Notification.NotificationType type) {
+        eventPublisher.publishEvent(new NotificationEvent(
+            Ids.next(), userId, title, message, type, LocalDateTime.now()));
     }
 
-    public void markAsRead(String id, String email) {
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDto> getNotifications(String email, String cursor, Integer size) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
+        
+        List<NotificationDto> notifications = notificationRepository.findPageByUserId(
+            user.getId(),
+            before != null ? before.getSortKey() : null,
+            before != null ? before.getId() : null,
+            Limit.of(pageSize + 1));
+        return CursorPage.of(notifications, pageSize, NotificationDto::getCreatedAt, NotificationDto::getId);
+    }
 
-        Notification notification = notificationRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Notification not found"));
-
-        if (!notification.getUserId().equals(user.getId())) {
-            throw new RuntimeException("You can only mark your own notifications as read");
+    @Transactional
+    public void markAsRead(UUID id, UUID userId) {
+        // Only the request that actually flips the flag decrements the counter
+        if (notificationRepository.markAsRead(id, userId) > 0) {
+            unreadCountDropped(userId, 1);
+        } else if (!notificationRepository.existsByIdAndUserId(id, userId)) {
+            throw new RuntimeException("Notification not found");
         }
+    }
 
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+    // No ids marks every unread notification matching the optional type and cutoff
+    @Transactional
+    public int markAsRead(MarkReadRequest request, UUID userId) {
+        List<UUID> ids = request.getIds();
+        if (ids != null && ids.isEmpty()) {
+            return 0;
+        }
+        int updated = ids != null
+            ? notificationRepository.markAsRead(ids, userId, request.getType(), request.getBefore())
+            : notificationRepository.markAllAsRead(userId, request.getType(), request.getBefore());
+        if (updated > 0) {
+            unreadCountDropped(userId, updated);
+        }
+        return updated;
     }
 
-    public Long getUnreadCount(String email) {
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        return notificationRepository.countUnreadNotifications(user.getId());
+    public Long getUnreadCount(UUID userId) {
+        return notificationCounterRepository.findUnreadCount(userId).orElse(0L);
     }
 
-    private NotificationDto convertToDto(Notification notification) {
-        return new NotificationDto(
-            notification.getId(),
-            notification.getUserId(),
-            notification.getTitle(),
-            notification.getMessage(),
-            notification.getType(),
-            notification.getIsRead(),
-            notification.getCreatedAt()
-        );
+    private void unreadCountDropped(UUID userId, long count) {
+        notificationCounterRepository.decrement(userId, count);
+        notificationStreamService.unreadCountChanged(userId);
     }
 }
\ No newline at end of file
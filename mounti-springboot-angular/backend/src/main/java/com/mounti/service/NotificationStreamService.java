@@ -0,0 +1,239 @@
+package com.mounti.service;
+
+import com.mounti.dto.NotificationDto;
+import com.mounti.event.NotificationEvent;
+import com.mounti.event.NotificationsStoredEvent;
+import com.mounti.repository.NotificationCounterRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user Server-Sent Events streams. Open streams hold no request thread
+ * (they are servlet async requests), so idle connections only cost their
+ * socket and a map entry. Pushes run on a few dispatcher threads, never on the
+ * outbox workers; each user always goes through the same one, so their events
+ * stay in order, and a client whose socket stalls only delays the users sharing
+ * its dispatcher. A scheduler hands heartbeats to the dispatchers the same way,
+ * which also detects and drops dead connections.
+ */
+@Service
+public class NotificationStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStreamService.class);
+
+    @Autowired
+    private NotificationCounterRepository notificationCounterRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notifications.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notifications.stream.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    @Value("${notifications.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${notifications.stream.max-per-user:5}")
+    private int maxPerUser;
+
+    @Value("${notifications.stream.dispatchers:4}")
+    private int dispatcherCount;
+
+    private final Map<UUID, Deque<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private ExecutorService[] dispatchers;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    public void start() {
+        dispatchers = new ExecutorService[dispatcherCount];
+        for (int i = 0; i < dispatcherCount; i++) {
+            String name = "notification-stream-" + i;
+            dispatchers[i] = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, name));
+        }
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "notification-stream-heartbeat"));
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        Gauge.builder("notifications.stream.connections", connections, AtomicInteger::get)
+            .description("Open notification streams")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        for (ExecutorService dispatcher : dispatchers) {
+            dispatcher.shutdownNow();
+        }
+        streams.values().forEach(userStreams -> userStreams.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Opens a stream for the user and sends the current unread count as its first
+     * event. Returns null when the server is at its connection limit; a user's
+     * oldest stream is closed when they open one too many.
+     */
+    public SseEmitter subscribe(UUID userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Deque<SseEmitter> userStreams = streams.compute(userId, (id, existing) -> {
+            Deque<SseEmitter> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.add(emitter);
+            return deque;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(userId, emitter));
+
+        while (userStreams.size() > maxPerUser) {
+            SseEmitter oldest = userStreams.peekFirst();
+            if (oldest == null || oldest == emitter) {
+                break;
+            }
+            remove(userId, oldest);
+            oldest.complete();
+        }
+
+        try {
+            emitter.send(SseEmitter.event()
+                .name("unread-count")
+                .data(unreadCount(userId)));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onNotificationsStored(NotificationsStoredEvent event) {
+        Map<UUID, List<NotificationEvent>> byUser = new LinkedHashMap<>();
+        for (NotificationEvent notification : event.getNotifications()) {
+            if (streams.containsKey(notification.getUserId())) {
+                byUser.computeIfAbsent(notification.getUserId(), id -> new ArrayList<>()).add(notification);
+            }
+        }
+        byUser.forEach((userId, notifications) ->
+            dispatcher(userId).execute(() -> pushNotifications(userId, notifications)));
+    }
+
+    // Deferred until the caller's transaction commits, so the push reads the new count
+    public void unreadCountChanged(UUID userId) {
+        if (!streams.containsKey(userId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher(userId).execute(() -> pushUnreadCount(userId));
+                }
+            });
+        } else {
+            dispatcher(userId).execute(() -> pushUnreadCount(userId));
+        }
+    }
+
+    private void pushNotifications(UUID userId, List<NotificationEvent> notifications) {
+        for (NotificationEvent notification : notifications) {
+            broadcast(userId, SseEmitter.event()
+                .id(notification.getId().toString())
+                .name("notification")
+                .data(new NotificationDto(notification.getId(), notification.getUserId(), notification.getTitle(),
+                    notification.getMessage(), notification.getType(), false, notification.getCreatedAt())));
+        }
+        pushUnreadCount(userId);
+    }
+
+    private void pushUnreadCount(UUID userId) {
+        if (streams.containsKey(userId)) {
+            broadcast(userId, SseEmitter.event()
+                .name("unread-count")
+                .data(unreadCount(userId)));
+        }
+    }
+
+    private long unreadCount(UUID userId) {
+        return notificationCounterRepository.findUnreadCount(userId).orElse(0L);
+    }
+
+    private void sendHeartbeats() {
+        streams.forEach((userId, userStreams) -> dispatcher(userId).execute(() -> {
+            for (SseEmitter emitter : userStreams) {
+                send(userId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    private ExecutorService dispatcher(UUID userId) {
+        return dispatchers[Math.floorMod(userId.hashCode(), dispatchers.length)];
+    }
+
+    private void broadcast(UUID userId, SseEmitter.SseEventBuilder event) {
+        Deque<SseEmitter> userStreams = streams.get(userId);
+        if (userStreams != null) {
+            for (SseEmitter emitter : userStreams) {
+                send(userId, emitter, event);
+            }
+        }
+    }
+
+    private void send(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; completing releases the async request
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            log.warn("Could not push to notification stream of user {}", userId, e);
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            if (userStreams.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
\ No newline at end of file
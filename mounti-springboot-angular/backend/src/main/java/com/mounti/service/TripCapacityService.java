@@ -0,0 +1,180 @@
+package com.mounti.service;
+
+import com.mounti.entity.Booking;
+import com.mounti.entity.Trip;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Capacity is claimed with a single conditional UPDATE so concurrent bookings
+ * can never drive a trip below zero; an update count of 0 means the claim lost.
+ *
+ * The updates go through JDBC (in the caller's transaction) rather than a bulk
+ * JPQL UPDATE, because Hibernate answers a bulk update by dropping the whole
+ * Trip cache region. Instead only the changed trip is evicted, now and again
+ * once the transaction completes, so a read that raced the update cannot leave
+ * the old row cached.
+ */
+@Service
+public class TripCapacityService {
+
+    private static final String RESERVE_SEATS_SQL =
+        "UPDATE trips SET available_seats = available_seats - ?, version = version + 1 " +
+        "WHERE id = ? AND status = 'ACTIVE' AND available_seats >= ?";
+
+    private static final String RESERVE_WEIGHT_SQL =
+        "UPDATE trips SET available_weight_kg = available_weight_kg - ?, version = version + 1 " +
+        "WHERE id = ? AND status = 'ACTIVE' AND available_weight_kg >= ?";
+
+    // Both claims on a trip in one statement, so a batch holds each trip row lock from a single
+    // UPDATE; a zero quantity leaves its column (which may be NULL) unchecked
+    private static final String RESERVE_SQL =
+        "UPDATE trips SET available_seats = available_seats - ?, " +
+        "available_weight_kg = available_weight_kg - ?, version = version + 1 " +
+        "WHERE id = ? AND status = 'ACTIVE' AND (? = 0 OR available_seats >= ?) " +
+        "AND (? = 0 OR available_weight_kg >= ?)";
+
+    private static final String RELEASE_SEATS_SQL =
+        "UPDATE trips SET available_seats = available_seats + ?, version = version + 1 WHERE id = ?";
+
+    private static final String RELEASE_WEIGHT_SQL =
+        "UPDATE trips SET available_weight_kg = available_weight_kg + ?, version = version + 1 WHERE id = ?";
+
+    // Read back under the row lock the UPDATE took, so it is exactly the version this change produced
+    private static final String VERSION_SQL =
+        "SELECT version FROM trips WHERE id = ?";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE trips SET status = 'COMPLETED', version = version + 1 " +
+        "WHERE id = ? AND status = 'ACTIVE' AND departure_date < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TripSearchIndex tripSearchIndex;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(UUID tripId, Booking.BookingType bookingType, int quantity) {
+        if (bookingType == Booking.BookingType.SEAT) {
+            if (jdbcTemplate.update(RESERVE_SEATS_SQL, quantity, tripId, quantity) == 0) {
+                throw new RuntimeException("Not enough seats available");
+            }
+        } else {
+            if (jdbcTemplate.update(RESERVE_WEIGHT_SQL, quantity, tripId, quantity) == 0) {
+                throw new RuntimeException("Not enough weight capacity available");
+            }
+        }
+        evict(tripId);
+        adjustIndex(tripId, bookingType, -quantity);
+    }
+
+    /**
+     * Claims seats and weight on several trips in one JDBC batch: one UPDATE per trip,
+     * in trip id order, so concurrent batches lock trip rows in the same order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserveAll(Map<UUID, Integer> seatsByTrip, Map<UUID, Integer> weightByTrip) {
+        TreeSet<UUID> tripIds = new TreeSet<>(seatsByTrip.keySet());
+        tripIds.addAll(weightByTrip.keySet());
+        if (tripIds.isEmpty()) {
+            return;
+        }
+        List<UUID> orderedIds = new ArrayList<>(tripIds);
+        List<Object[]> args = new ArrayList<>(orderedIds.size());
+        for (UUID tripId : orderedIds) {
+            int seats = seatsByTrip.getOrDefault(tripId, 0);
+            int weight = weightByTrip.getOrDefault(tripId, 0);
+            args.add(new Object[] { seats, weight, tripId, seats, seats, weight, weight });
+        }
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_SQL, args);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                UUID tripId = orderedIds.get(i);
+                String shortage = !weightByTrip.containsKey(tripId) ? "seats"
+                    : !seatsByTrip.containsKey(tripId) ? "weight capacity" : "seats or weight capacity";
+                throw new RuntimeException("Not enough " + shortage + " available on trip " + tripId);
+            }
+        }
+        for (UUID tripId : orderedIds) {
+            evict(tripId);
+            tripSearchIndex.adjustCapacity(tripId, -seatsByTrip.getOrDefault(tripId, 0),
+                -weightByTrip.getOrDefault(tripId, 0), version(tripId));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(UUID tripId, Booking.BookingType bookingType, int quantity) {
+        if (bookingType == Booking.BookingType.SEAT) {
+            jdbcTemplate.update(RELEASE_SEATS_SQL, quantity, tripId);
+        } else {
+            jdbcTemplate.update(RELEASE_WEIGHT_SQL, quantity, tripId);
+        }
+        evict(tripId);
+        adjustIndex(tripId, bookingType, quantity);
+    }
+
+    // Closes departed trips to further bookings; returns how many were still active
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int complete(List<UUID> tripIds, LocalDateTime departedBefore) {
+        Timestamp cutoff = Timestamp.valueOf(departedBefore);
+        List<Object[]> args = new ArrayList<>(tripIds.size());
+        for (UUID tripId : tripIds) {
+            args.add(new Object[] { tripId, cutoff });
+        }
+        int[] updated = jdbcTemplate.batchUpdate(COMPLETE_SQL, args);
+        List<UUID> completed = new ArrayList<>(tripIds.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                completed.add(tripIds.get(i));
+            }
+        }
+        tripIds.forEach(this::evict);
+        tripSearchIndex.remove(completed);
+        return completed.size();
+    }
+
+    private void adjustIndex(UUID tripId, Booking.BookingType bookingType, int quantity) {
+        Long version = version(tripId);
+        if (version == null) {
+            return;
+        }
+        if (bookingType == Booking.BookingType.SEAT) {
+            tripSearchIndex.adjustCapacity(tripId, quantity, 0, version);
+        } else {
+            tripSearchIndex.adjustCapacity(tripId, 0, quantity, version);
+        }
+    }
+
+    private Long version(UUID tripId) {
+        List<Long> versions = jdbcTemplate.queryForList(VERSION_SQL, Long.class, tripId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    private void evict(UUID tripId) {
+        entityManagerFactory.getCache().evict(Trip.class, tripId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                entityManagerFactory.getCache().evict(Trip.class, tripId);
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.mounti.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves ACTIVE trips whose departure is more than {@code complete-after-minutes}
+ * in the past to COMPLETED, so search and booking only ever see upcoming trips.
+ *
+ * Departed trips are picked oldest first from the (status, departure_date)
+ * index, {@code batch-size} at a time, each batch in its own transaction with
+ * a pause in between; a backlog after downtime is worked off without long
+ * row locks on trips that bookings are competing for.
+ */
+@Component
+public class TripLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TripLifecycleJob.class);
+
+    private static final String DEPARTED_BATCH_SQL =
+        "SELECT id FROM trips WHERE status = 'ACTIVE' AND departure_date < ? " +
+        "ORDER BY departure_date FETCH FIRST ? ROWS ONLY";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TripCapacityService tripCapacityService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${trips.lifecycle.complete-after-minutes:0}")
+    private long completeAfterMinutes;
+
+    @Value("${trips.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    @Value("${trips.lifecycle.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    private Timer runTimer;
+    private Counter completedCounter;
+
+    @PostConstruct
+    public void init() {
+        runTimer = Timer.builder("trips.lifecycle.run")
+            .description("Time spent on one lifecycle run, pauses included")
+            .register(meterRegistry);
+        completedCounter = meterRegistry.counter("trips.lifecycle.completed");
+    }
+
+    @Scheduled(initialDelayString = "${trips.lifecycle.initial-delay-ms:30000}",
+               fixedDelayString = "${trips.lifecycle.interval-ms:300000}")
+    public void completeDepartedTrips() {
+        runTimer.record(() -> {
+            // Fixed per run, so trips departing while it works wait for the next one
+            LocalDateTime departedBefore = LocalDateTime.now().minusMinutes(completeAfterMinutes);
+            long completed = 0;
+            List<UUID> batch;
+            do {
+                batch = jdbcTemplate.queryForList(DEPARTED_BATCH_SQL, UUID.class,
+                    Timestamp.valueOf(departedBefore), batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<UUID> tripIds = batch;
+                int updated = transactionTemplate.execute(status -> tripCapacityService.complete(tripIds, departedBefore));
+                completed += updated;
+                completedCounter.increment(updated);
+            } while (batch.size() == batchSize && pause());
+            if (completed > 0) {
+                log.info("Completed {} departed trips", completed);
+            }
+        });
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,381 @@
+package com.mounti.service;
+
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.TripDto;
+import com.mounti.entity.Trip;
+import com.mounti.repository.TripRepository;
+import com.mounti.util.KeysetCursor;
+import com.mounti.util.LocationKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Active trips held in memory so trip search never touches the database.
+ *
+ * Trips are ordered by (departureDate, id), the same order and keyset as
+ * TripRepository.findTripsWithFilters, in one sorted set per origin key,
+ * destination key and route, plus one over all trips. A departure day is
+ * a range of the set, so a search is a map lookup and a bounded walk.
+ *
+ * Writers call in after their transaction commits, so searches never see
+ * uncommitted trips. All changes are serialized and versioned: an older copy
+ * of a trip never replaces a newer one, and a capacity change is only applied
+ * on top of the version it was made against (otherwise the row is re-read).
+ *
+ * Each of those sets also has a change counter, bumped whenever a trip in
+ * it is added, changed or removed. Together with a per-process epoch it
+ * makes a search ETag that can be computed without running the search.
+ */
+@Component
+public class TripSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TripSearchIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    // Rough per-trip footprint for sizing: the DTO with its boxed fields, dates and ids,
+    // the id map node and four skip-list entries; strings are added per character
+    private static final long TRIP_OVERHEAD_BYTES = 600;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${trips.search-index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<UUID, TripDto> trips = new ConcurrentHashMap<>();
+    private final NavigableSet<SortKey> all = new ConcurrentSkipListSet<>();
+    private final Map<String, NavigableSet<SortKey>> byFrom = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<SortKey>> byTo = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<SortKey>> byRoute = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> changes = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private volatile boolean ready;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder("trips.search.index.trips", trips, Map::size)
+            .description("Active trips in the search index")
+            .register(meterRegistry);
+        Gauge.builder("trips.search.index.routes", byRoute, Map::size)
+            .description("Distinct routes in the search index")
+            .register(meterRegistry);
+        Gauge.builder("trips.search.index.bytes", this, TripSearchIndex::estimatedBytes)
+            .description("Estimated heap held by the search index (walks the index when read)")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        // Runs before the web server and scheduled jobs start, so nothing writes while it loads
+        if (enabled) {
+            reload();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the contents with every ACTIVE trip in the database.
+     */
+    public void reload() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            trips.clear();
+            all.clear();
+            byFrom.clear();
+            byTo.clear();
+            byRoute.clear();
+            List<TripDto> batch;
+            TripDto last = null;
+            do {
+                batch = tripRepository.findTripsWithFilters(null, null, null, null,
+                    last != null ? last.getDepartureDate() : null, last != null ? last.getId() : null,
+                    Limit.of(LOAD_BATCH_SIZE));
+                batch.forEach(this::add);
+                last = batch.isEmpty() ? null : batch.get(batch.size() - 1);
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Trip search index loaded {} trips on {} routes in {} ms, ~{} KiB", trips.size(), byRoute.size(),
+            (System.nanoTime() - start) / 1_000_000, estimatedBytes() / 1024);
+    }
+
+    /**
+     * ETag for search results with these filters: changes whenever a trip they could
+     * return changes. Read it before searching, so it is never newer than the results.
+     */
+    public String searchETag(String fromKey, String toKey) {
+        AtomicLong counter = changes.get(setKey(fromKey, toKey));
+        return "\"" + epoch + "-" + (counter != null ? counter.get() : 0) + "\"";
+    }
+
+    /**
+     * Version of an indexed trip, or null for trips the index doesn't hold.
+     */
+    public Long version(UUID tripId) {
+        TripDto trip = trips.get(tripId);
+        return trip != null ? trip.getVersion() : null;
+    }
+
+    public CursorPage<TripDto> search(String fromKey, String toKey, LocalDateTime departureFrom,
+                                      LocalDateTime departureTo, KeysetCursor after, int pageSize) {
+        List<TripDto> rows = new ArrayList<>(pageSize + 1);
+        for (SortKey key : range(fromKey, toKey, departureFrom, departureTo, after)) {
+            TripDto trip = trips.get(key.id);
+            if (trip != null) {
+                rows.add(trip);
+                if (rows.size() > pageSize) {
+                    break;
+                }
+            }
+        }
+        return CursorPage.of(rows, pageSize, TripDto::getDepartureDate, TripDto::getId);
+    }
+
+    /**
+     * Hands every matching trip to the consumer in search order, without collecting them.
+     */
+    public void forEach(String fromKey, String toKey, LocalDateTime departureFrom,
+                        LocalDateTime departureTo, Consumer<TripDto> consumer) {
+        for (SortKey key : range(fromKey, toKey, departureFrom, departureTo, null)) {
+            TripDto trip = trips.get(key.id);
+            if (trip != null) {
+                consumer.accept(trip);
+            }
+        }
+    }
+
+    /**
+     * Adds, moves or (for anything not ACTIVE) removes the trip once the current
+     * transaction commits, or right away outside of one.
+     */
+    public void put(TripDto trip) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                replace(trip);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public void remove(Collection<UUID> tripIds) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                tripIds.forEach(this::removeNow);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Mirrors a capacity UPDATE that left the trip at {@code version}. The delta is only
+     * applied to the version before it; a copy that already has the change is kept, and
+     * one that missed an earlier change is replaced by the committed row.
+     */
+    public void adjustCapacity(UUID tripId, int seatsDelta, double weightDelta, long version) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                TripDto trip = trips.get(tripId);
+                if (trip == null || trip.getVersion() >= version) {
+                    return;
+                }
+                if (trip.getVersion() == version - 1) {
+                    TripDto adjusted = new TripDto(
+                        trip.getId(), trip.getTransporterId(), trip.getTransporterName(), trip.getFromLocation(),
+                        trip.getToLocation(), trip.getDepartureDate(), trip.getAvailableSeats() + seatsDelta,
+                        trip.getAvailableWeightKg() + weightDelta, trip.getPricePerSeat(), trip.getPricePerKg(),
+                        trip.getNotes(), trip.getStatus(), trip.getCreatedAt(), version);
+                    trips.put(tripId, adjusted);
+                    changed(adjusted);
+                } else {
+                    tripRepository.findDtoById(tripId).ifPresentOrElse(this::replace, () -> removeNow(tripId));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (TripDto trip : trips.values()) {
+            bytes += TRIP_OVERHEAD_BYTES + stringBytes(trip.getTransporterName()) + stringBytes(trip.getFromLocation())
+                + stringBytes(trip.getToLocation()) + stringBytes(trip.getNotes());
+        }
+        return bytes;
+    }
+
+    // The slice of the narrowest set that covers the filters, starting after the cursor
+    private NavigableSet<SortKey> range(String fromKey, String toKey, LocalDateTime departureFrom,
+                                        LocalDateTime departureTo, KeysetCursor after) {
+        NavigableSet<SortKey> candidates = fromKey != null && toKey != null ? byRoute.get(routeKey(fromKey, toKey))
+            : fromKey != null ? byFrom.get(fromKey)
+            : toKey != null ? byTo.get(toKey)
+            : all;
+        if (candidates == null) {
+            return Collections.emptyNavigableSet();
+        }
+        SortKey lower = departureFrom != null ? new SortKey(departureFrom, MIN_ID) : null;
+        boolean lowerInclusive = true;
+        if (after != null) {
+            SortKey afterKey = new SortKey(after.getSortKey(), after.getId());
+            if (lower == null || afterKey.compareTo(lower) >= 0) {
+                lower = afterKey;
+                lowerInclusive = false;
+            }
+        }
+        NavigableSet<SortKey> range = lower != null ? candidates.tailSet(lower, lowerInclusive) : candidates;
+        return departureTo != null ? range.headSet(new SortKey(departureTo, MIN_ID), false) : range;
+    }
+
+    // Callers hold writeLock
+    private void replace(TripDto trip) {
+        TripDto current = trips.get(trip.getId());
+        if (current != null && current.getVersion() > trip.getVersion()) {
+            return;
+        }
+        removeNow(trip.getId());
+        if (trip.getStatus() == Trip.TripStatus.ACTIVE) {
+            add(trip);
+        }
+    }
+
+    private void add(TripDto trip) {
+        String fromKey = LocationKeys.normalize(trip.getFromLocation());
+        String toKey = LocationKeys.normalize(trip.getToLocation());
+        SortKey key = new SortKey(trip.getDepartureDate(), trip.getId());
+        trips.put(trip.getId(), trip);
+        all.add(key);
+        byFrom.computeIfAbsent(fromKey, k -> new ConcurrentSkipListSet<>()).add(key);
+        byTo.computeIfAbsent(toKey, k -> new ConcurrentSkipListSet<>()).add(key);
+        byRoute.computeIfAbsent(routeKey(fromKey, toKey), k -> new ConcurrentSkipListSet<>()).add(key);
+        changed(trip);
+    }
+
+    private void removeNow(UUID tripId) {
+        TripDto trip = trips.remove(tripId);
+        if (trip == null) {
+            return;
+        }
+        String fromKey = LocationKeys.normalize(trip.getFromLocation());
+        String toKey = LocationKeys.normalize(trip.getToLocation());
+        SortKey key = new SortKey(trip.getDepartureDate(), trip.getId());
+        all.remove(key);
+        removeFrom(byFrom, fromKey, key);
+        removeFrom(byTo, toKey, key);
+        removeFrom(byRoute, routeKey(fromKey, toKey), key);
+        changed(trip);
+    }
+
+    private void changed(TripDto trip) {
+        String fromKey = LocationKeys.normalize(trip.getFromLocation());
+        String toKey = LocationKeys.normalize(trip.getToLocation());
+        for (String key : new String[] { setKey(null, null), setKey(fromKey, null), setKey(null, toKey), setKey(fromKey, toKey) }) {
+            changes.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static void removeFrom(Map<String, NavigableSet<SortKey>> index, String indexKey, SortKey key) {
+        NavigableSet<SortKey> keys = index.get(indexKey);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                index.remove(indexKey);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static String routeKey(String fromKey, String toKey) {
+        return fromKey + '\n' + toKey;
+    }
+
+    // Names the set a search with these filters walks
+    private static String setKey(String fromKey, String toKey) {
+        return (fromKey != null ? fromKey : "*") + '\n' + (toKey != null ? toKey : "*");
+    }
+
+    private static long stringBytes(String value) {
+        return value != null ? STRING_OVERHEAD_BYTES + value.length() : 0;
+    }
+
+    // Ids compare unsigned, like H2's UUID columns, so pages match the database order
+    private static final class SortKey implements Comparable<SortKey> {
+        private final LocalDateTime departureDate;
+        private final UUID id;
+
+        private SortKey(LocalDateTime departureDate, UUID id) {
+            this.departureDate = departureDate;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int byDate = departureDate.compareTo(other.departureDate);
+            if (byDate != 0) {
+                return byDate;
+            }
+            int byHigh = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+            return byHigh != 0 ? byHigh : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SortKey && compareTo((SortKey) other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+}
\ No newline at end of file
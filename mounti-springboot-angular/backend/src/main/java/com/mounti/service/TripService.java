@@ -1,17 +1,26 @@
 package com.mounti.service;
 
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.CursorPage;
 import com.mounti.dto.TripDto;
 import com.mounti.entity.Trip;
 import com.mounti.entity.User;
 import com.mounti.repository.TripRepository;
 import com.mounti.repository.UserRepository;
+import com.mounti.util.Ids;
+import com.mounti.util.KeysetCursor;
+import com.mounti.util.LocationKeys;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TripService {
@@ -22,19 +31,98 @@ public class TripService {
     @Autowired
     private UserRepository userRepository;
 
-    public List<TripDto> searchTrips(String fromLocation, String toLocation, LocalDateTime departureDate) {
-        List<Trip> trips = tripRepository.findTripsWithFilters(fromLocation, toLocation, departureDate);
-        return trips.stream().map(this::convertToDto).collect(Collectors.toList());
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Autowired
+    private TripSearchIndex tripSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Served from the in-memory index once it is loaded; no transaction or connection needed
+    public CursorPage<TripDto> searchTrips(String fromLocation, String toLocation, LocalDateTime departureDate,
+                                           String cursor, Integer size) {
+        LocalDateTime departureFrom = departureDate != null ? departureDate.toLocalDate().atStartOfDay() : null;
+        LocalDateTime departureTo = departureFrom != null ? departureFrom.plusDays(1) : null;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
+
+        if (tripSearchIndex.isReady()) {
+            return tripSearchIndex.search(LocationKeys.searchKey(fromLocation), LocationKeys.searchKey(toLocation),
+                departureFrom, departureTo, after, pageSize);
+        }
+        List<TripDto> trips = tripRepository.findTripsWithFilters(
+            LocationKeys.searchKey(fromLocation),
+            LocationKeys.searchKey(toLocation),
+            departureFrom,
+            departureTo,
+            after != null ? after.getSortKey() : null,
+            after != null ? after.getId() : null,
+            Limit.of(pageSize + 1));
+        return CursorPage.of(trips, pageSize, TripDto::getDepartureDate, TripDto::getId);
+    }
+
+    // Every match in search order, handed over one at a time. The database fallback reads
+    // through a cursor, so it needs a transaction for as long as the consumer runs
+    public void forEachTrip(String fromLocation, String toLocation, LocalDateTime departureDate,
+                            Consumer<TripDto> consumer) {
+        String fromKey = LocationKeys.searchKey(fromLocation);
+        String toKey = LocationKeys.searchKey(toLocation);
+        LocalDateTime departureFrom = departureDate != null ? departureDate.toLocalDate().atStartOfDay() : null;
+        LocalDateTime departureTo = departureFrom != null ? departureFrom.plusDays(1) : null;
+
+        if (tripSearchIndex.isReady()) {
+            tripSearchIndex.forEach(fromKey, toKey, departureFrom, departureTo, consumer);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TripDto> trips = tripRepository.streamTripsWithFilters(fromKey, toKey, departureFrom, departureTo)) {
+                trips.forEach(consumer);
+            }
+        });
     }
 
-    public List<TripDto> getMyTrips(String email) {
+    // Null when search is not served from the index (no cheap way to tell what changed)
+    public String searchETag(String fromLocation, String toLocation) {
+        return tripSearchIndex.isReady()
+            ? tripSearchIndex.searchETag(LocationKeys.searchKey(fromLocation), LocationKeys.searchKey(toLocation))
+            : null;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TripDto> getMyTrips(String email, String cursor, Integer size) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
-        List<Trip> trips = tripRepository.findByTransporterId(user.getId());
-        return trips.stream().map(this::convertToDto).collect(Collectors.toList());
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
+
+        List<TripDto> trips = tripRepository.findPageByTransporterId(
+            user.getId(),
+            before != null ? before.getSortKey() : null,
+            before != null ? before.getId() : null,
+            Limit.of(pageSize + 1));
+        return CursorPage.of(trips, pageSize, TripDto::getDepartureDate, TripDto::getId);
+    }
+
+    // All of the transporter's trips in page order, read through a cursor and handed over one at a time
+    @Transactional(readOnly = true)
+    public void forEachMyTrip(String email, Consumer<TripDto> consumer) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        try (Stream<TripDto> trips = tripRepository.streamByTransporterId(user.getId())) {
+            trips.forEach(consumer);
+        }
+    }
+
+    // Without loading the trip: from the index for active trips, otherwise a single-column read
+    public Long getTripVersion(UUID id) {
+        Long version = tripSearchIndex.version(id);
+        return version != null ? version : tripRepository.findVersionById(id).orElse(null);
     }
 
-    public TripDto getTripById(String id) {
+    @Transactional(readOnly = true)
+    public TripDto getTripById(UUID id) {
         Trip trip = tripRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Trip not found"));
         return convertToDto(trip);
@@ -49,7 +137,7 @@ public class TripService {
         }
 
         Trip trip = new Trip();
-        trip.setId(UUID.randomUUID().toString());
+        trip.setId(Ids.next());
         trip.setTransporterId(user.getId());
         trip.setTransporterName(user.getName());
         trip.setFromLocation(tripDto.getFromLocation());
@@ -63,10 +151,12 @@ public class TripService {
         trip.setStatus(Trip.TripStatus.ACTIVE);
 
         Trip savedTrip = tripRepository.save(trip);
-        return convertToDto(savedTrip);
+        TripDto savedDto = convertToDto(savedTrip);
+        tripSearchIndex.put(savedDto);
+        return savedDto;
     }
 
-    public TripDto updateTrip(String id, TripDto tripDto, String email) {
+    public TripDto updateTrip(UUID id, TripDto tripDto, String email) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -87,10 +177,12 @@ public class TripService {
         trip.setNotes(tripDto.getNotes());
 
         Trip updatedTrip = tripRepository.save(trip);
-        return convertToDto(updatedTrip);
+        TripDto updatedDto = convertToDto(updatedTrip);
+        tripSearchIndex.put(updatedDto);
+        return updatedDto;
     }
 
-    public void deleteTrip(String id, String email) {
+    public void deleteTrip(UUID id, String email) {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -102,6 +194,7 @@ public class TripService {
         }
 
         tripRepository.delete(trip);
+        tripSearchIndex.remove(List.of(id));
     }
 
     private TripDto convertToDto(Trip trip) {
@@ -118,7 +211,8 @@ public class TripService {
             trip.getPricePerKg(),
             trip.getNotes(),
             trip.getStatus(),
-            trip.getCreatedAt()
+            trip.getCreatedAt(),
+            trip.getVersion()
         );
     }
 }
\ No newline at end of file
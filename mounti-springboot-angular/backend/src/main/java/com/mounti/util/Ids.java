@@ -0,0 +1,31 @@
+package com.mounti.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered ids in the UUID version 7 layout (RFC 9562): 48 bits of Unix
+ * milliseconds, a 12-bit sequence that keeps ids from the same millisecond
+ * increasing, then 62 random bits. New rows append at the right edge of the
+ * primary-key and foreign-key indexes instead of landing on a random page, and
+ * the random tail keeps ids as hard to guess as the version 4 UUIDs they replace.
+ */
+public final class Ids {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last (millis << 12 | sequence) handed out; a full sequence borrows the next millisecond
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() >>> 2 | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.mounti.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a JSON array one element at a time, so a response body never has to
+ * be built in memory. Closing without {@link #finish()} leaves the array open:
+ * a response cut short by an error is then invalid JSON rather than a
+ * truncated list that looks complete.
+ */
+public final class JsonArrayWriter implements AutoCloseable {
+
+    private final JsonGenerator generator;
+
+    public JsonArrayWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        this.generator.writeStartArray();
+    }
+
+    public void write(Object element) {
+        try {
+            generator.writeObject(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.mounti.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free-text locations into index-friendly search keys. The key is
+ * the city part of the location (before the first comma), with accents
+ * stripped, lower-cased and punctuation collapsed: "Gabès, Tunisia" and
+ * "gabes" both become "gabes", so search can use equality on an index.
+ */
+public final class LocationKeys {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private LocationKeys() {}
+
+    public static String normalize(String location) {
+        if (location == null) {
+            return null;
+        }
+        int comma = location.indexOf(',');
+        String key = Normalizer.normalize(comma >= 0 ? location.substring(0, comma) : location, Normalizer.Form.NFD);
+        key = DIACRITICS.matcher(key).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(key).replaceAll(" ").trim();
+    }
+
+    /**
+     * Key to filter on for a search parameter, or null when there is nothing to filter on.
+     */
+    public static String searchKey(String location) {
+        String key = normalize(location);
+        return key == null || key.isEmpty() ? null : key;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+-- One-off migration for H2 databases created while ids were VARCHAR(255) strings.
+-- New databases (the default in-memory one) get UUID columns from the entities and need nothing.
+--
+-- Ids the application generated were UUID.randomUUID() strings: they convert in place, so
+-- URLs, tokens (uid claim) and outbox journal entries that carry them keep resolving.
+-- Anything else (hand-written seed ids such as '1') gets a fresh UUID, and every column that
+-- references it is rewritten in the same transaction. Tokens carrying such an old uid fall
+-- back to the email lookup; outbox journal entries carrying one are skipped on replay.
+--
+-- Run with the application stopped, e.g.:
+--   java -cp h2.jar org.h2.tools.RunScript -url jdbc:h2:file:./data/mounti -user sa \
+--        -script src/main/resources/db/migrate-string-ids-to-uuid.sql
+
+SET REFERENTIAL_INTEGRITY FALSE;
+
+CREATE LOCAL TEMPORARY TABLE id_map (
+    kind VARCHAR(16) NOT NULL,
+    old_id VARCHAR(255) NOT NULL,
+    new_id VARCHAR(36) NOT NULL,
+    PRIMARY KEY (kind, old_id)
+);
+
+INSERT INTO id_map SELECT 'user', id, CAST(RANDOM_UUID() AS VARCHAR)
+    FROM users WHERE NOT REGEXP_LIKE(id, '^[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}$');
+INSERT INTO id_map SELECT 'trip', id, CAST(RANDOM_UUID() AS VARCHAR)
+    FROM trips WHERE NOT REGEXP_LIKE(id, '^[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}$');
+INSERT INTO id_map SELECT 'booking', id, CAST(RANDOM_UUID() AS VARCHAR)
+    FROM bookings WHERE NOT REGEXP_LIKE(id, '^[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}$');
+INSERT INTO id_map SELECT 'notification', id, CAST(RANDOM_UUID() AS VARCHAR)
+    FROM notifications WHERE NOT REGEXP_LIKE(id, '^[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}$');
+
+UPDATE users u SET id = (SELECT new_id FROM id_map WHERE kind = 'user' AND old_id = u.id)
+    WHERE id IN (SELECT old_id FROM id_map WHERE kind = 'user');
+UPDATE trips t SET id = (SELECT new_id FROM id_map WHERE kind = 'trip' AND old_id = t.id)
+    WHERE id IN (SELECT old_id FROM id_map WHERE kind = 'trip');
+UPDATE trips t SET transporter_id = (SELECT new_id FROM id_map WHERE kind = 'user' AND old_id = t.transporter_id)
+    WHERE transporter_id IN (SELECT old_id FROM id_map WHERE kind = 'user');
+UPDATE bookings b SET id = (SELECT new_id FROM id_map WHERE kind = 'booking' AND old_id = b.id)
+    WHERE id IN (SELECT old_id FROM id_map WHERE kind = 'booking');
+UPDATE bookings b SET trip_id = (SELECT new_id FROM id_map WHERE kind = 'trip' AND old_id = b.trip_id)
+    WHERE trip_id IN (SELECT old_id FROM id_map WHERE kind = 'trip');
+UPDATE bookings b SET client_id = (SELECT new_id FROM id_map WHERE kind = 'user' AND old_id = b.client_id)
+    WHERE client_id IN (SELECT old_id FROM id_map WHERE kind = 'user');
+UPDATE notifications n SET id = (SELECT new_id FROM id_map WHERE kind = 'notification' AND old_id = n.id)
+    WHERE id IN (SELECT old_id FROM id_map WHERE kind = 'notification');
+UPDATE notifications n SET user_id = (SELECT new_id FROM id_map WHERE kind = 'user' AND old_id = n.user_id)
+    WHERE user_id IN (SELECT old_id FROM id_map WHERE kind = 'user');
+UPDATE notification_counters c SET user_id = (SELECT new_id FROM id_map WHERE kind = 'user' AND old_id = c.user_id)
+    WHERE user_id IN (SELECT old_id FROM id_map WHERE kind = 'user');
+
+-- 16-byte UUID columns instead of 36-character strings, keys and foreign keys alike
+ALTER TABLE users ALTER COLUMN id SET DATA TYPE UUID;
+ALTER TABLE trips ALTER COLUMN id SET DATA TYPE UUID;
+ALTER TABLE trips ALTER COLUMN transporter_id SET DATA TYPE UUID;
+ALTER TABLE bookings ALTER COLUMN id SET DATA TYPE UUID;
+ALTER TABLE bookings ALTER COLUMN trip_id SET DATA TYPE UUID;
+ALTER TABLE bookings ALTER COLUMN client_id SET DATA TYPE UUID;
+ALTER TABLE notifications ALTER COLUMN id SET DATA TYPE UUID;
+ALTER TABLE notifications ALTER COLUMN user_id SET DATA TYPE UUID;
+ALTER TABLE notification_counters ALTER COLUMN user_id SET DATA TYPE UUID;
+
+DROP TABLE id_map;
+
+SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
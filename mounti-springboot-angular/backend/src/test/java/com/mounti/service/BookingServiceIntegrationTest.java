@@ -0,0 +1,165 @@
+package com.mounti.service;
+
+import com.mounti.dto.BookingRequest;
+import com.mounti.dto.TripDto;
+import com.mounti.entity.Booking;
+import com.mounti.event.NotificationEvent;
+import com.mounti.event.NotificationsStoredEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs against the in-memory H2 database from application.yml, seeded by data.sql
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.mounti=INFO",
+    "logging.level.org.springframework.security=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class BookingServiceIntegrationTest {
+
+    private static final String TRANSPORTER = "transporter@mounti.com";
+    private static final String CLIENT = "client@mounti.com";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DeliveredNotifications deliveredNotifications;
+
+    @Test
+    void concurrentBookingsNeverExceedCapacity() throws Exception {
+        int capacity = 5;
+        int attempts = 20;
+        UUID tripId = createTrip("Bizerte", "Genoa", capacity);
+
+        ExecutorService pool = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < attempts; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(new BookingRequest(tripId, Booking.BookingType.SEAT, 1), CLIENT);
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int booked = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    booked++;
+                }
+            }
+
+            Integer bookedSeats = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM bookings WHERE trip_id = ? AND booking_type = 'SEAT'",
+                Integer.class, tripId);
+            Integer availableSeats = jdbcTemplate.queryForObject(
+                "SELECT available_seats FROM trips WHERE id = ?", Integer.class, tripId);
+
+            assertThat(booked).isEqualTo(capacity);
+            assertThat(bookedSeats).isEqualTo(capacity);
+            assertThat(availableSeats).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void notificationFromRolledBackBookingIsNeverDelivered() throws Exception {
+        UUID rolledBackTripId = createTrip("Kairouan", "Porto", 3);
+        UUID committedTripId = createTrip("Gabes", "Valencia", 3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.createBooking(new BookingRequest(rolledBackTripId, Booking.BookingType.SEAT, 1), CLIENT);
+            status.setRollbackOnly();
+        });
+        bookingService.createBooking(new BookingRequest(committedTripId, Booking.BookingType.SEAT, 1), CLIENT);
+
+        // The committed booking's notification was published after the rolled-back one; once it is
+        // stored, the outbox has had every chance to deliver the other
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!deliveredNotifications.mentions("Gabes") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(deliveredNotifications.mentions("Gabes")).isTrue();
+
+        assertThat(deliveredNotifications.mentions("Kairouan")).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notifications WHERE message LIKE '%Kairouan%'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notification_outbox WHERE message LIKE '%Kairouan%'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bookings WHERE trip_id = ?", Integer.class, rolledBackTripId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT available_seats FROM trips WHERE id = ?", Integer.class, rolledBackTripId)).isEqualTo(3);
+    }
+
+    private UUID createTrip(String from, String to, int seats) {
+        TripDto trip = new TripDto();
+        trip.setFromLocation(from);
+        trip.setToLocation(to);
+        trip.setDepartureDate(LocalDateTime.now().plusDays(10));
+        trip.setAvailableSeats(seats);
+        trip.setAvailableWeightKg(10.0);
+        trip.setPricePerSeat(100.0);
+        trip.setPricePerKg(5.0);
+        return tripService.createTrip(trip, TRANSPORTER).getId();
+    }
+
+    @TestConfiguration
+    static class DeliveredNotificationsConfig {
+        @Bean
+        DeliveredNotifications deliveredNotifications() {
+            return new DeliveredNotifications();
+        }
+    }
+
+    // Every notification the outbox has written, as pushed to the stream
+    static class DeliveredNotifications {
+        private final List<NotificationEvent> notifications = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onStored(NotificationsStoredEvent event) {
+            notifications.addAll(event.getNotifications());
+        }
+
+        boolean mentions(String text) {
+            return notifications.stream().anyMatch(notification -> notification.getMessage().contains(text));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.BookingDto;
+import com.mounti.dto.BookingRequest;
+import com.mounti.entity.Booking;
+import com.mounti.service.BookingService;
+import com.mounti.service.NotificationService;
+import com.mounti.service.NotificationStreamService;
+import com.mounti.service.TripCapacityService;
+import com.mounti.service.TripSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code batchSize} bookings on as many trips, placed one createBooking call
+ * (and transaction) at a time versus a single createBookings call that claims
+ * capacity and inserts with JDBC batches. Scores are per group of bookings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingBatchBenchmark {
+
+    private static final int TRIPS = 1000;
+
+    @Param({"1", "10", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private int nextTrip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("booking-batch-" + batchSize,
+            BookingService.class, TripCapacityService.class, TripSearchIndex.class, NotificationService.class,
+            NotificationStreamService.class, PaginationProperties.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.seedUsers(jdbc);
+        BenchmarkDataset.seedTrips(jdbc, TRIPS);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void individually(Blackhole blackhole) {
+        for (BookingRequest request : nextRequests()) {
+            blackhole.consume(bookingService.createBooking(request, BenchmarkDataset.clientEmail(0)));
+        }
+    }
+
+    @Benchmark
+    public List<BookingDto> batched() {
+        return bookingService.createBookings(nextRequests(), BenchmarkDataset.clientEmail(0));
+    }
+
+    private List<BookingRequest> nextRequests() {
+        List<BookingRequest> requests = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            UUID tripId = BenchmarkDataset.tripId(nextTrip++ % TRIPS);
+            requests.add(new BookingRequest(tripId, Booking.BookingType.SEAT, 1));
+        }
+        return requests;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.BookingDto;
+import com.mounti.dto.BookingRequest;
+import com.mounti.dto.CursorPage;
+import com.mounti.entity.Booking;
+import com.mounti.service.BookingService;
+import com.mounti.service.NotificationService;
+import com.mounti.service.NotificationStreamService;
+import com.mounti.service.TripCapacityService;
+import com.mounti.service.TripSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingService on an H2 database holding {@code bookingCount} bookings over
+ * 1000 trips. createBooking covers the user and trip lookups, the capacity
+ * reservation, the insert and the commit; the notification it publishes has
+ * no outbox listening here, so the outbox row the application writes in the
+ * same transaction is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private static final int TRIPS = 1000;
+
+    @Param({"1000", "100000"})
+    private int bookingCount;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private int nextTrip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("booking-service-" + bookingCount,
+            BookingService.class, TripCapacityService.class, TripSearchIndex.class, NotificationService.class,
+            NotificationStreamService.class, PaginationProperties.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.seedUsers(jdbc);
+        BenchmarkDataset.seedTrips(jdbc, TRIPS);
+        BenchmarkDataset.seedBookings(jdbc, bookingCount, TRIPS);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingDto createBooking() {
+        // Rotate over trips so consecutive bookings don't all contend on one row
+        UUID tripId = BenchmarkDataset.tripId(nextTrip++ % TRIPS);
+        return bookingService.createBooking(
+            new BookingRequest(tripId, Booking.BookingType.SEAT, 1), BenchmarkDataset.clientEmail(0));
+    }
+
+    @Benchmark
+    public CursorPage<BookingDto> myBookings() {
+        return bookingService.getMyBookings(BenchmarkDataset.clientEmail(1), null, null);
+    }
+}
\ No newline at end of file
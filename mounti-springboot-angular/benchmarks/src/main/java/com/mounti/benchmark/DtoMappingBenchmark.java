@@ -0,0 +1,89 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.dto.BookingDto;
+import com.mounti.dto.TripDto;
+import com.mounti.entity.Booking;
+import com.mounti.entity.Trip;
+import com.mounti.service.BookingService;
+import com.mounti.service.TripService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in isolation from the database, as still done for
+ * single-entity responses (paged reads are projected by the queries, see
+ * ReadProjectionBenchmark). The services' private convertToDto methods are
+ * called through method handles held in static finals, which the JIT treats
+ * as direct calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private static final MethodHandle TRIP_TO_DTO = converter(TripService.class, Trip.class, TripDto.class);
+    private static final MethodHandle BOOKING_TO_DTO = converter(BookingService.class, Booking.class, BookingDto.class);
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final TripService tripService = new TripService();
+    private final BookingService bookingService = new BookingService();
+
+    private List<Trip> trips;
+    private List<Booking> bookings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        trips = new ArrayList<>(pageSize);
+        bookings = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Trip trip = new Trip(BenchmarkDataset.transporterId(1), "Transporter 1", "Tunis, Tunisia", "Paris, France",
+                now.plusDays(i), 3, 25.0, 150.0, 8.0, "Benchmark trip");
+            trip.setId(BenchmarkDataset.tripId(i));
+            trip.setCreatedAt(now);
+            trips.add(trip);
+
+            Booking booking = new Booking(BenchmarkDataset.tripId(i), BenchmarkDataset.clientId(1), "Client 1", Booking.BookingType.SEAT, 1, 150.0);
+            booking.setId(BenchmarkDataset.bookingId(i));
+            booking.setCreatedAt(now);
+            bookings.add(booking);
+        }
+    }
+
+    @Benchmark
+    public void trips(Blackhole blackhole) throws Throwable {
+        for (Trip trip : trips) {
+            blackhole.consume((TripDto) TRIP_TO_DTO.invokeExact(tripService, trip));
+        }
+    }
+
+    @Benchmark
+    public void bookings(Blackhole blackhole) throws Throwable {
+        for (Booking booking : bookings) {
+            blackhole.consume((BookingDto) BOOKING_TO_DTO.invokeExact(bookingService, booking));
+        }
+    }
+
+    private static MethodHandle converter(Class<?> service, Class<?> entity, Class<?> dto) {
+        try {
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                .findVirtual(service, "convertToDto", MethodType.methodType(dto, entity));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No convertToDto(" + entity.getSimpleName() + ") on " + service.getSimpleName(), e);
+        }
+    }
+}
\ No newline at end of file
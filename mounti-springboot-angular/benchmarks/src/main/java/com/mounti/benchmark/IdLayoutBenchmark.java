@@ -0,0 +1,88 @@
+package com.mounti.benchmark;
+
+import com.mounti.util.Ids;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primary-key layout on an H2 table shaped like bookings: the original random
+ * UUID strings in VARCHAR(36) against time-ordered Ids.next() values in a
+ * native UUID column. insert appends one row to a table preloaded with
+ * {@code rows} rows; lookup fetches a random preloaded row by id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdLayoutBenchmark {
+
+    @Param({"randomString", "timeOrderedUuid"})
+    private String idType;
+
+    @Param({"100000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private Object[] preloaded;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:id-layout-" + idType + ";DB_CLOSE_DELAY=-1", "sa", "");
+        String idColumn = "timeOrderedUuid".equals(idType) ? "UUID" : "VARCHAR(36)";
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE bookings (id " + idColumn + " PRIMARY KEY, trip_id " + idColumn + ", " +
+                "quantity INT, total_price DOUBLE, status VARCHAR(20), created_at TIMESTAMP)");
+        }
+        insert = connection.prepareStatement("INSERT INTO bookings VALUES (?, ?, 1, 150.0, 'PENDING', CURRENT_TIMESTAMP)");
+        lookup = connection.prepareStatement("SELECT quantity FROM bookings WHERE id = ?");
+
+        preloaded = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            preloaded[i] = nextId();
+            insert.setObject(1, preloaded[i]);
+            insert.setObject(2, preloaded[i % 1000]);
+            insert.addBatch();
+            if (i % 1000 == 999) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        random = new Random(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        insert.setObject(1, nextId());
+        insert.setObject(2, preloaded[random.nextInt(1000)]);
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public int lookup() throws SQLException {
+        lookup.setObject(1, preloaded[random.nextInt(rows)]);
+        try (ResultSet row = lookup.executeQuery()) {
+            return row.next() ? row.getInt(1) : -1;
+        }
+    }
+
+    private Object nextId() {
+        return "timeOrderedUuid".equals(idType) ? Ids.next() : UUID.randomUUID().toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.security.CustomUserDetailsService;
+import com.mounti.security.JwtAuthenticationFilter;
+import com.mounti.security.JwtTokenProvider;
+import com.mounti.security.StreamTicketService;
+import com.mounti.security.UserPrincipal;
+import com.mounti.security.UserPrincipalCache;
+import com.mounti.security.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of JwtAuthenticationFilter: a token carrying the user
+ * claims, a token issued before the claims existed (resolved through the
+ * principal cache and, on a miss, the users table), and no token at all as
+ * the floor set by the filter and the mock request itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter filter;
+    private String claimsToken;
+    private String legacyToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("jwt-filter", JwtAuthenticationFilter.class, JwtTokenProvider.class,
+            VerifiedTokenCache.class, UserPrincipalCache.class, CustomUserDetailsService.class,
+            StreamTicketService.class);
+        BenchmarkDataset.seedUsers(context.getBean(JdbcTemplate.class));
+        filter = context.getBean(JwtAuthenticationFilter.class);
+
+        claimsToken = context.getBean(JwtTokenProvider.class).generateToken(UserPrincipal.fromClaims(
+            BenchmarkDataset.clientId(0), BenchmarkDataset.clientEmail(0), "Client 0", false));
+        legacyToken = Jwts.builder()
+            .setSubject(BenchmarkDataset.clientEmail(0))
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(System.currentTimeMillis() + 86400000L))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512)
+            .compact();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication claimsToken() throws Exception {
+        return authenticate(claimsToken);
+    }
+
+    @Benchmark
+    public Authentication legacyToken() throws Exception {
+        return authenticate(legacyToken);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws Exception {
+        return authenticate(null);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.mounti.benchmark;
+
+import com.mounti.security.JwtTokenProvider;
+import com.mounti.security.UserPrincipal;
+import com.mounti.security.VerifiedToken;
+import com.mounti.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token: the original two full
+ * parses (each rebuilding the key and parser) against a single verify with a
+ * reusable parser, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, new VerifiedTokenCache(true, 10000));
+        uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, new VerifiedTokenCache(false, 0));
+        token = cachedProvider.generateToken(
+            UserPrincipal.fromClaims(UUID.fromString("00000000-0000-7000-8000-000000000002"), "client@mounti.com", "Fatima Trabelsi", false));
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        // What validateToken + getUsernameFromToken did before: two parses, two key derivations
+        Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+            .build()
+            .parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public VerifiedToken singleParseVerify() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return cachedProvider.verify(token);
+    }
+}
\ No newline at end of file
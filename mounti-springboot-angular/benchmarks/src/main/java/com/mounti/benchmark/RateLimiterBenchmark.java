@@ -0,0 +1,50 @@
+package com.mounti.benchmark;
+
+import com.mounti.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter.tryAcquire on the request path: one client hitting its bucket
+ * repeatedly, and a rotation over {@code clients} distinct clients so bucket
+ * lookups miss the CPU caches. Budgets are large enough that every call is
+ * allowed; run with {@code -t} above 1 to see CAS contention on the hot bucket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"10000"})
+    private int clients;
+
+    private RateLimiter rateLimiter;
+    private String[] clientKeys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = new RateLimiter(true, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Integer.MAX_VALUE, 300, clients + 1, new SimpleMeterRegistry());
+        clientKeys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientKeys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long sameClient() {
+        return rateLimiter.tryAcquire(RateLimiter.BOOKINGS, clientKeys[0]);
+    }
+
+    @Benchmark
+    public long manyClients() {
+        next = next + 1 == clients ? 0 : next + 1;
+        return rateLimiter.tryAcquire(RateLimiter.BOOKINGS, clientKeys[next]);
+    }
+}
\ No newline at end of file
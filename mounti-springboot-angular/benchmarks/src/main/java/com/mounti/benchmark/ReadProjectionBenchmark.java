@@ -0,0 +1,108 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.dto.TripDto;
+import com.mounti.entity.Trip;
+import com.mounti.repository.TripRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One large page of a transporter's trips read three ways: the original
+ * entity query mapped to DTOs outside any transaction, the same query in a
+ * read-only transaction, and the constructor projection now used by
+ * TripRepository.findPageByTransporterId. Run with {@code -prof gc} to
+ * compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    private static final int TRIPS = 100_000;
+
+    private static final String ENTITY_JPQL =
+        "SELECT t FROM Trip t WHERE t.transporterId = :transporterId " +
+        "AND (:beforeDate IS NULL OR t.departureDate < :beforeDate " +
+        "     OR (t.departureDate = :beforeDate AND t.id < :beforeId)) " +
+        "ORDER BY t.departureDate DESC, t.id DESC";
+
+    // Every transporter owns TRIPS / 10 trips, so the largest page is still full
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private TripRepository tripRepository;
+    private UUID transporterId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("read-projection-" + rows);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.seedUsers(jdbc);
+        BenchmarkDataset.seedTrips(jdbc, TRIPS);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        tripRepository = context.getBean(TripRepository.class);
+        transporterId = BenchmarkDataset.transporterId(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TripDto> entities() {
+        return toDtos(loadEntities());
+    }
+
+    @Benchmark
+    public List<TripDto> entitiesReadOnly() {
+        return readOnly.execute(status -> toDtos(loadEntities()));
+    }
+
+    @Benchmark
+    public List<TripDto> projectionReadOnly() {
+        return readOnly.execute(status -> tripRepository.findPageByTransporterId(transporterId, null, null, Limit.of(rows)));
+    }
+
+    private List<Trip> loadEntities() {
+        return entityManager.createQuery(ENTITY_JPQL, Trip.class)
+            .setParameter("transporterId", transporterId)
+            .setParameter("beforeDate", null)
+            .setParameter("beforeId", null)
+            .setMaxResults(rows)
+            .getResultList();
+    }
+
+    private static List<TripDto> toDtos(List<Trip> trips) {
+        List<TripDto> dtos = new ArrayList<>(trips.size());
+        for (Trip trip : trips) {
+            dtos.add(new TripDto(trip.getId(), trip.getTransporterId(), trip.getTransporterName(),
+                trip.getFromLocation(), trip.getToLocation(), trip.getDepartureDate(), trip.getAvailableSeats(),
+                trip.getAvailableWeightKg(), trip.getPricePerSeat(), trip.getPricePerKg(), trip.getNotes(),
+                trip.getStatus(), trip.getCreatedAt(), trip.getVersion()));
+        }
+        return dtos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.mounti.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.TripDto;
+import com.mounti.service.TripSearchIndex;
+import com.mounti.service.TripService;
+import com.mounti.util.JsonArrayWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every active trip written as one JSON array through TripService.forEachTrip,
+ * from the search index or the database cursor it falls back to: collected
+ * into a list and serialized in one go, as the paged endpoints do, or written
+ * row by row as GET /trips/all does.
+ *
+ * The *FirstByte variants stop at the first write that reaches the response
+ * stream, i.e. they measure time to first byte. Run with {@code -prof gc} to
+ * compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingJsonBenchmark {
+
+    private static final FirstByte FIRST_BYTE = new FirstByte();
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"index", "database"})
+    private String source;
+
+    private ConfigurableApplicationContext context;
+    private TripService tripService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("streaming-json-" + rows + "-" + source,
+            List.of("--trips.search-index.enabled=" + "index".equals(source)),
+            TripService.class, TripSearchIndex.class, PaginationProperties.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.seedUsers(jdbc);
+        BenchmarkDataset.seedTrips(jdbc, rows);
+        if ("index".equals(source)) {
+            context.getBean(TripSearchIndex.class).reload();
+        }
+        tripService = context.getBean(TripService.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long buffered() throws IOException {
+        CountingOutputStream out = new CountingOutputStream(false);
+        writeBuffered(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long streamed() throws IOException {
+        CountingOutputStream out = new CountingOutputStream(false);
+        writeStreamed(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public boolean bufferedFirstByte() throws IOException {
+        try {
+            writeBuffered(new CountingOutputStream(true));
+        } catch (FirstByte e) {
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean streamedFirstByte() throws IOException {
+        try {
+            writeStreamed(new CountingOutputStream(true));
+        } catch (UncheckedIOException e) {
+            return e.getCause() instanceof FirstByte;
+        }
+        return false;
+    }
+
+    private void writeBuffered(OutputStream out) throws IOException {
+        List<TripDto> trips = new ArrayList<>();
+        tripService.forEachTrip(null, null, null, trips::add);
+        objectMapper.writeValue(out, trips);
+    }
+
+    private void writeStreamed(OutputStream out) throws IOException {
+        try (JsonArrayWriter writer = new JsonArrayWriter(objectMapper, out)) {
+            tripService.forEachTrip(null, null, null, writer::write);
+            writer.finish();
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final boolean stopAtFirstByte;
+        private long count;
+
+        private CountingOutputStream(boolean stopAtFirstByte) {
+            this.stopAtFirstByte = stopAtFirstByte;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(null, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (stopAtFirstByte) {
+                throw FIRST_BYTE;
+            }
+            count += len;
+        }
+    }
+
+    // Jackson passes I/O errors through as they are; anything else comes back wrapped
+    private static final class FirstByte extends IOException {
+        private FirstByte() {
+            super(null, null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.mounti.benchmark;
+
+import com.mounti.util.LocationKeys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original trip search predicates (LOWER(..) LIKE '%x%' and a
+ * DATE() comparison) with the normalized-key equality and departure range
+ * used by TripRepository.findTripsWithFilters, on the same indexed H2 table.
+ * Both statements keep the optional-filter shape Hibernate generates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TripSearchBenchmark {
+
+    private static final String[] ORIGINS = {
+        "Tunis, Tunisia", "Sfax, Tunisia", "Sousse, Tunisia", "Monastir, Tunisia", "Bizerte, Tunisia",
+        "Gabès, Tunisia", "Nabeul, Tunisia", "Kairouan, Tunisia", "Djerba, Tunisia", "Tozeur, Tunisia"
+    };
+
+    private static final String[] DESTINATIONS = {
+        "Paris, France", "Lyon, France", "Marseille, France", "Nice, France", "Toulouse, France",
+        "Bordeaux, France", "Lille, France", "Nantes, France", "Strasbourg, France", "Montpellier, France"
+    };
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    private static final String LEGACY_SQL =
+        "SELECT * FROM trips WHERE status = 'ACTIVE' " +
+        "AND (?1 IS NULL OR LOWER(from_location) LIKE LOWER('%' || ?1 || '%')) " +
+        "AND (?2 IS NULL OR LOWER(to_location) LIKE LOWER('%' || ?2 || '%')) " +
+        "AND (?3 IS NULL OR CAST(departure_date AS DATE) = CAST(?3 AS DATE)) " +
+        "ORDER BY departure_date";
+
+    private static final String KEYED_SQL =
+        "SELECT * FROM trips WHERE status = 'ACTIVE' " +
+        "AND (?1 IS NULL OR from_location_key = ?1) " +
+        "AND (?2 IS NULL OR to_location_key = ?2) " +
+        "AND (?3 IS NULL OR departure_date >= ?3) " +
+        "AND (?4 IS NULL OR departure_date < ?4) " +
+        "ORDER BY departure_date";
+
+    @Param({"10000", "100000"})
+    private int tripCount;
+
+    private Connection connection;
+    private PreparedStatement legacyQuery;
+    private PreparedStatement keyedQuery;
+    private LocalDate searchDay;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:trip-search-" + tripCount + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE trips (id VARCHAR(36) PRIMARY KEY, from_location VARCHAR(255), " +
+                "to_location VARCHAR(255), from_location_key VARCHAR(255), to_location_key VARCHAR(255), " +
+                "departure_date TIMESTAMP, status VARCHAR(20))");
+            ddl.execute("CREATE INDEX idx_trips_route_departure ON trips (status, from_location_key, to_location_key, departure_date)");
+            ddl.execute("CREATE INDEX idx_trips_to_departure ON trips (status, to_location_key, departure_date)");
+            ddl.execute("CREATE INDEX idx_trips_departure ON trips (status, departure_date)");
+        }
+        seed();
+
+        searchDay = FIRST_DAY.plusDays(180);
+        legacyQuery = connection.prepareStatement(LEGACY_SQL);
+        legacyQuery.setString(1, "Tunis");
+        legacyQuery.setString(2, "Paris");
+        legacyQuery.setObject(3, searchDay.atStartOfDay());
+
+        keyedQuery = connection.prepareStatement(KEYED_SQL);
+        keyedQuery.setString(1, LocationKeys.searchKey("Tunis"));
+        keyedQuery.setString(2, LocationKeys.searchKey("Paris"));
+        keyedQuery.setObject(3, searchDay.atStartOfDay());
+        keyedQuery.setObject(4, searchDay.plusDays(1).atStartOfDay());
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO trips VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < tripCount; i++) {
+                String from = ORIGINS[random.nextInt(ORIGINS.length)];
+                String to = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+                LocalDateTime departure = FIRST_DAY.atStartOfDay()
+                    .plusDays(random.nextInt(365))
+                    .plusMinutes(random.nextInt(24 * 60));
+                insert.setString(1, Integer.toString(i));
+                insert.setString(2, from);
+                insert.setString(3, to);
+                insert.setString(4, LocationKeys.normalize(from));
+                insert.setString(5, LocationKeys.normalize(to));
+                insert.setObject(6, departure);
+                insert.setString(7, random.nextInt(10) == 0 ? "COMPLETED" : "ACTIVE");
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void legacyLikeScan(Blackhole blackhole) throws SQLException {
+        drain(legacyQuery, blackhole);
+    }
+
+    @Benchmark
+    public void keyedRangeSearch(Blackhole blackhole) throws SQLException {
+        drain(keyedQuery, blackhole);
+    }
+
+    private static void drain(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getString(1));
+            }
+        }
+    }
+}
\ No newline at end of file
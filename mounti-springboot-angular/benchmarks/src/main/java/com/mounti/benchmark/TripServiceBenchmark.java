@@ -0,0 +1,81 @@
+package com.mounti.benchmark;
+
+import com.mounti.benchmark.support.BenchmarkContext;
+import com.mounti.benchmark.support.BenchmarkDataset;
+import com.mounti.config.PaginationProperties;
+import com.mounti.dto.CursorPage;
+import com.mounti.dto.TripDto;
+import com.mounti.service.TripSearchIndex;
+import com.mounti.service.TripService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TripService read paths through the real repositories, transactions and DTO
+ * mapping, on an H2 database seeded with {@code tripCount} trips. Searches are
+ * served by TripSearchIndex ({@code index}) or by the repository query it
+ * replaced ({@code database}); myTrips always reads the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TripServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int tripCount;
+
+    @Param({"index", "database"})
+    private String source;
+
+    private ConfigurableApplicationContext context;
+    private TripService tripService;
+    private LocalDateTime searchDay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("trip-service-" + tripCount + "-" + source,
+            List.of("--trips.search-index.enabled=" + "index".equals(source)),
+            TripService.class, TripSearchIndex.class, PaginationProperties.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.seedUsers(jdbc);
+        BenchmarkDataset.seedTrips(jdbc, tripCount);
+        if ("index".equals(source)) {
+            context.getBean(TripSearchIndex.class).reload();
+        }
+        tripService = context.getBean(TripService.class);
+        searchDay = BenchmarkDataset.SEARCH_DAY.atStartOfDay();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<TripDto> searchRouteAndDay() {
+        return tripService.searchTrips(BenchmarkDataset.SEARCH_FROM, BenchmarkDataset.SEARCH_TO, searchDay, null, null);
+    }
+
+    @Benchmark
+    public CursorPage<TripDto> searchRoute() {
+        return tripService.searchTrips(BenchmarkDataset.SEARCH_FROM, BenchmarkDataset.SEARCH_TO, null, null, null);
+    }
+
+    @Benchmark
+    public CursorPage<TripDto> searchUnfiltered() {
+        return tripService.searchTrips(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public CursorPage<TripDto> myTrips() {
+        return tripService.getMyTrips(BenchmarkDataset.transporterEmail(0), null, null);
+    }
+}
\ No newline at end of file
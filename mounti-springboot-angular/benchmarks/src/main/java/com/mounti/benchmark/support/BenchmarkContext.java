@@ -0,0 +1,50 @@
+package com.mounti.benchmark.support;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots {@link PersistenceSlice} plus the given components against a private,
+ * empty in-memory H2 database. Hibernate creates the schema from the entities;
+ * the backend's data.sql is skipped so each benchmark seeds its own dataset.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String database, Class<?>... components) {
+        return start(database, List.of(), components);
+    }
+
+    /**
+     * As {@link #start(String, Class[])}, with extra {@code --key=value} properties.
+     */
+    public static ConfigurableApplicationContext start(String database, List<String> properties, Class<?>... components) {
+        List<Class<?>> sources = new ArrayList<>();
+        sources.add(PersistenceSlice.class);
+        sources.addAll(List.of(components));
+
+        // Passed as arguments so they win over the backend's application.yml on the classpath
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.sql.init.mode=never",
+            "--logging.level.root=WARN",
+            "--logging.level.com.mounti=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.springframework.web=WARN"));
+        args.addAll(properties);
+        return new SpringApplicationBuilder(sources.toArray(new Class<?>[0]))
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .run(args.toArray(new String[0]));
+    }
+}
\ No newline at end of file
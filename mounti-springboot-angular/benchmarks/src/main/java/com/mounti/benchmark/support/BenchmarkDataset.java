@@ -0,0 +1,132 @@
+package com.mounti.benchmark.support;
+
+import com.mounti.util.LocationKeys;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic seed data written with plain JDBC batches: transporters and
+ * clients, trips spread over 10 x 10 routes and a year of departures, and
+ * bookings spread over those trips and clients.
+ */
+public final class BenchmarkDataset {
+
+    public static final int TRANSPORTERS = 10;
+    public static final int CLIENTS = 100;
+
+    public static final String SEARCH_FROM = "Tunis, Tunisia";
+    public static final String SEARCH_TO = "Paris, France";
+    public static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+    public static final LocalDate SEARCH_DAY = FIRST_DAY.plusDays(180);
+
+    // Large enough that booking benchmarks never run a trip out of capacity
+    public static final int TRIP_SEATS = 1_000_000;
+
+    private static final String[] ORIGINS = {
+        "Tunis, Tunisia", "Sfax, Tunisia", "Sousse, Tunisia", "Monastir, Tunisia", "Bizerte, Tunisia",
+        "Gabès, Tunisia", "Nabeul, Tunisia", "Kairouan, Tunisia", "Djerba, Tunisia", "Tozeur, Tunisia"
+    };
+
+    private static final String[] DESTINATIONS = {
+        "Paris, France", "Lyon, France", "Marseille, France", "Nice, France", "Toulouse, France",
+        "Bordeaux, France", "Lille, France", "Nantes, France", "Strasbourg, France", "Montpellier, France"
+    };
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkDataset() {
+    }
+
+    public static UUID transporterId(int index) {
+        return id(1, index);
+    }
+
+    public static String transporterEmail(int index) {
+        return "transporter" + index + "@bench.mounti.com";
+    }
+
+    public static UUID clientId(int index) {
+        return id(2, index);
+    }
+
+    public static String clientEmail(int index) {
+        return "client" + index + "@bench.mounti.com";
+    }
+
+    public static UUID tripId(int index) {
+        return id(3, index);
+    }
+
+    public static UUID bookingId(int index) {
+        return id(4, index);
+    }
+
+    public static void seedUsers(JdbcTemplate jdbc) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TRANSPORTERS; i++) {
+            rows.add(new Object[] { transporterId(i), transporterEmail(i), "not-a-real-hash", "Transporter " + i, true, now });
+        }
+        for (int i = 0; i < CLIENTS; i++) {
+            rows.add(new Object[] { clientId(i), clientEmail(i), "not-a-real-hash", "Client " + i, false, now });
+        }
+        insert(jdbc, "INSERT INTO users (id, email, password, name, is_transporter, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    public static void seedTrips(JdbcTemplate jdbc, int count) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int transporter = i % TRANSPORTERS;
+            String from = ORIGINS[random.nextInt(ORIGINS.length)];
+            String to = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+            LocalDateTime departure = FIRST_DAY.plusDays(random.nextInt(365)).atTime(random.nextInt(24), 0);
+            rows.add(new Object[] {
+                tripId(i), transporterId(transporter), "Transporter " + transporter, from, to,
+                LocationKeys.normalize(from), LocationKeys.normalize(to), Timestamp.valueOf(departure),
+                TRIP_SEATS, (double) TRIP_SEATS, 150.0, 8.0, "Benchmark trip", "ACTIVE", 0L, now
+            });
+        }
+        insert(jdbc, "INSERT INTO trips (id, transporter_id, transporter_name, from_location, to_location, " +
+            "from_location_key, to_location_key, departure_date, available_seats, available_weight_kg, " +
+            "price_per_seat, price_per_kg, notes, status, version, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    public static void seedBookings(JdbcTemplate jdbc, int count, int tripCount) {
+        Random random = new Random(7);
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int client = i % CLIENTS;
+            rows.add(new Object[] {
+                bookingId(i), tripId(random.nextInt(tripCount)), clientId(client), "Client " + client,
+                "SEAT", 1, 150.0, "PENDING", Timestamp.valueOf(start.plusSeconds(i))
+            });
+        }
+        insert(jdbc, "INSERT INTO bookings (id, trip_id, client_id, client_name, booking_type, quantity, " +
+            "total_price, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // Version 7 layout with a fixed timestamp per kind, so ids sort by kind then index
+    private static UUID id(int kind, int index) {
+        return new UUID((long) kind << 16 | 0x7000L, 0x8000_0000_0000_0000L | index);
+    }
+
+    private static void insert(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        jdbc.batchUpdate(sql, rows, BATCH_SIZE, (statement, row) -> {
+            for (int column = 0; column < row.length; column++) {
+                statement.setObject(column + 1, row[column]);
+            }
+        });
+    }
+}
\ No newline at end of file
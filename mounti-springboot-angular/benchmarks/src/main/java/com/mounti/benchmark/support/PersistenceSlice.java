@@ -0,0 +1,26 @@
+package com.mounti.benchmark.support;
+
+import com.mounti.entity.Trip;
+import com.mounti.repository.TripRepository;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * The backend's persistence layer (entities, repositories, auditing, H2) without
+ * component scanning, web server or security chain. Benchmarks add the beans
+ * they exercise on top of it through {@link BenchmarkContext}.
+ *
+ * Deliberately not a @Configuration: it is only ever passed as a source, and
+ * the stereotype would let the application's component scan pick it up when
+ * the load test boots MountiApplication from the same jar.
+ */
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+@EntityScan(basePackageClasses = Trip.class)
+@EnableJpaRepositories(basePackageClasses = TripRepository.class)
+@EnableJpaAuditing
+public class PersistenceSlice {
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.mounti.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Command line of the load test. Harness options are {@code --name=value};
+ * any other {@code --key=value} argument is passed on to the application,
+ * e.g. {@code --spring.threads.virtual.enabled=true}.
+ */
+public class LoadTestOptions {
+
+    private static final String DEFAULT_MIX = "search=45,notifications=20,unread=15,book=10,confirm=5,login=5";
+
+    private double rate = 200;
+    private int durationSeconds = 30;
+    private int warmupSeconds = 10;
+    private int concurrency = 32;
+    private int clients = 50;
+    private int transporters = 5;
+    private String output = "loadtest-result.json";
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    private final List<String> applicationArgs = new ArrayList<>();
+    private int totalWeight;
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        String mix = DEFAULT_MIX;
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "clients" -> options.clients = Integer.parseInt(value);
+                case "transporters" -> options.transporters = Integer.parseInt(value);
+                case "output" -> options.output = value;
+                case "mix" -> mix = value;
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        options.parseMix(mix);
+        return options;
+    }
+
+    private void parseMix(String value) {
+        for (String part : value.split(",")) {
+            String[] entry = part.split("=");
+            Operation operation = switch (entry[0].trim()) {
+                case "search" -> Operation.SEARCH;
+                case "login" -> Operation.LOGIN;
+                case "book" -> Operation.BOOK;
+                case "confirm" -> Operation.CONFIRM;
+                case "notifications" -> Operation.NOTIFICATIONS;
+                case "unread" -> Operation.UNREAD_COUNT;
+                default -> throw new IllegalArgumentException("Unknown operation in --mix: " + entry[0]);
+            };
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                mix.put(operation, weight);
+                totalWeight += weight;
+            }
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("--mix needs at least one operation with a positive weight");
+        }
+    }
+
+    public Operation pickOperation() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    public double share(Operation operation) {
+        return mix.getOrDefault(operation, 0) / (double) totalWeight;
+    }
+
+    public double getRate() { return rate; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public int getWarmupSeconds() { return warmupSeconds; }
+    public int getConcurrency() { return concurrency; }
+    public int getClients() { return clients; }
+    public int getTransporters() { return transporters; }
+    public String getOutput() { return output; }
+    public Map<Operation, Integer> getMix() { return mix; }
+    public List<String> getApplicationArgs() { return applicationArgs; }
+}
\ No newline at end of file
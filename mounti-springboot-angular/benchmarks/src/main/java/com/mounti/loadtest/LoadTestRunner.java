@@ -0,0 +1,299 @@
+package com.mounti.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mounti.MountiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: starts the real application on a random port with an
+ * in-memory H2 database, creates users and trips through the API, then drives
+ * a weighted mix of requests at a fixed arrival rate.
+ *
+ * The load is open-loop: request i is due at start + i / rate whether or not
+ * earlier requests have finished, and its latency is measured from that due
+ * time. When the server (or the worker pool) falls behind, the queueing shows
+ * up in the percentiles instead of silently lowering the offered load.
+ *
+ * Usage: java -cp benchmarks.jar com.mounti.loadtest.LoadTestRunner
+ *        [--rate=200] [--duration=30] [--warmup=10] [--concurrency=32]
+ *        [--clients=50] [--transporters=5] [--output=loadtest-result.json]
+ *        [--mix=search=45,notifications=20,unread=15,book=10,confirm=5,login=5]
+ *        [--any.application.property=value ...]
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest123";
+    private static final String[] ORIGINS = {"Tunis, Tunisia", "Sfax, Tunisia", "Sousse, Tunisia", "Monastir, Tunisia", "Djerba, Tunisia"};
+    private static final String[] DESTINATIONS = {"Paris, France", "Lyon, France", "Marseille, France", "Nice, France", "Toulouse, France"};
+    // Each trip takes this many 1 kg parcel bookings before it is full
+    private static final int BOOKINGS_PER_TRIP = 100;
+
+    private final LoadTestOptions options;
+    private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+    private final List<String> clientTokens = new ArrayList<>();
+    private final List<String> clientEmails = new ArrayList<>();
+    private final List<String> transporterTokens = new ArrayList<>();
+    private final List<String> tripIds = new ArrayList<>();
+    private final Map<String, String> tripOwnerTokens = new LinkedHashMap<>();
+    private final ConcurrentLinkedQueue<String[]> pendingBookings = new ConcurrentLinkedQueue<>();
+    private MountiClient client;
+
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new LatencyStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Map<String, Object> result = runAgainstNewApplication(options);
+        writeResult(options.getOutput(), result);
+        System.exit(0);
+    }
+
+    /**
+     * Boots a fresh application (own in-memory database), runs the load
+     * against it and shuts it down again.
+     */
+    public static Map<String, Object> runAgainstNewApplication(LoadTestOptions options, String... applicationArgs)
+            throws Exception {
+        ConfigurableApplicationContext context = startApplication(options, applicationArgs);
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            return new LoadTestRunner(options).run("http://localhost:" + port + "/api");
+        } finally {
+            context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, String... applicationArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            // Every simulated client shares one address
+            "--rate-limit.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.mounti=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.springframework.web=WARN"));
+        // Later arguments win, so anything given on the command line overrides the defaults above
+        args.addAll(List.of(applicationArgs));
+        args.addAll(options.getApplicationArgs());
+        return SpringApplication.run(MountiApplication.class, args.toArray(new String[0]));
+    }
+
+    public Map<String, Object> run(String baseUrl) throws Exception {
+        client = new MountiClient(baseUrl);
+        setUp();
+
+        double totalSeconds = options.getWarmupSeconds() + options.getDurationSeconds();
+        log("Offering %.0f req/s for %ds (+%ds warmup) with %d workers", options.getRate(),
+            options.getDurationSeconds(), options.getWarmupSeconds(), options.getConcurrency());
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.getConcurrency());
+        long interval = (long) (1_000_000_000L / options.getRate());
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        long end = start + (long) (totalSeconds * 1_000_000_000L);
+        for (long due = start; due < end; due += interval) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = options.pickOperation();
+            boolean measured = due >= measureFrom;
+            long dueAt = due;
+            workers.execute(() -> execute(operation, dueAt, measured));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            log("Requests still running after 2 minutes; reporting what completed");
+            workers.shutdownNow();
+        }
+
+        return report();
+    }
+
+    private void setUp() throws Exception {
+        log("Registering %d transporters and %d clients", options.getTransporters(), options.getClients());
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < options.getTransporters(); i++) {
+            transporterTokens.add(register("transporter" + i + "-" + run + "@loadtest.mounti.com", "Transporter " + i, true));
+        }
+        for (int i = 0; i < options.getClients(); i++) {
+            String email = "client" + i + "-" + run + "@loadtest.mounti.com";
+            clientEmails.add(email);
+            clientTokens.add(register(email, "Client " + i, false));
+        }
+
+        double totalSeconds = options.getWarmupSeconds() + options.getDurationSeconds();
+        double expectedBookings = options.getRate() * totalSeconds * options.share(Operation.BOOK);
+        int trips = Math.max(ORIGINS.length * DESTINATIONS.length, (int) Math.ceil(expectedBookings * 1.5 / BOOKINGS_PER_TRIP));
+        log("Creating %d trips", trips);
+        for (int i = 0; i < trips; i++) {
+            String owner = transporterTokens.get(i % transporterTokens.size());
+            Map<String, Object> trip = new LinkedHashMap<>();
+            trip.put("fromLocation", ORIGINS[i % ORIGINS.length]);
+            trip.put("toLocation", DESTINATIONS[(i / ORIGINS.length) % DESTINATIONS.length]);
+            trip.put("departureDate", LocalDate.now().plusDays(30 + i % 60).atTime(10, 0).toString());
+            trip.put("availableSeats", 8);
+            trip.put("availableWeightKg", (double) BOOKINGS_PER_TRIP);
+            trip.put("pricePerSeat", 120.0);
+            trip.put("pricePerKg", 8.0);
+            trip.put("notes", "Load test trip");
+            MountiClient.Response response = expectSuccess(client.post("/trips", owner, trip), "create trip");
+            String tripId = response.json().get("id").asText();
+            tripIds.add(tripId);
+            tripOwnerTokens.put(tripId, owner);
+        }
+    }
+
+    private String register(String email, String name, boolean transporter) throws Exception {
+        MountiClient.Response response = expectSuccess(client.post("/auth/register", null,
+            Map.of("email", email, "password", PASSWORD, "name", name, "isTransporter", transporter)), "register");
+        return response.json().get("token").asText();
+    }
+
+    private void execute(Operation operation, long due, boolean measured) {
+        boolean success;
+        try {
+            success = perform(operation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            success = false;
+        }
+        if (measured) {
+            stats.get(operation).record(System.nanoTime() - due, success);
+        }
+    }
+
+    private boolean perform(Operation operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int clientIndex = random.nextInt(clientTokens.size());
+        String clientToken = clientTokens.get(clientIndex);
+        switch (operation) {
+            case SEARCH: {
+                String from = ORIGINS[random.nextInt(ORIGINS.length)].split(",")[0];
+                String to = DESTINATIONS[random.nextInt(DESTINATIONS.length)].split(",")[0];
+                return client.get("/trips?fromLocation=" + from + "&toLocation=" + to, null).isSuccess();
+            }
+            case LOGIN:
+                return client.post("/auth/login", null,
+                    Map.of("email", clientEmails.get(clientIndex), "password", PASSWORD)).isSuccess();
+            case BOOK: {
+                String tripId = tripIds.get(random.nextInt(tripIds.size()));
+                MountiClient.Response response = client.post("/bookings", clientToken,
+                    Map.of("tripId", tripId, "bookingType", "PARCEL", "quantity", 1));
+                if (response.isSuccess()) {
+                    JsonNode booking = response.json();
+                    pendingBookings.add(new String[] {booking.get("id").asText(), booking.get("tripId").asText()});
+                }
+                return response.isSuccess();
+            }
+            case CONFIRM: {
+                String[] booking = pendingBookings.poll();
+                if (booking == null) {
+                    // Nothing booked yet: confirm traffic degrades to reading the owner's bookings
+                    String tripId = tripIds.get(random.nextInt(tripIds.size()));
+                    return client.get("/bookings/trip/" + tripId, tripOwnerTokens.get(tripId)).isSuccess();
+                }
+                return client.put("/bookings/" + booking[0] + "/status", tripOwnerTokens.get(booking[1]),
+                    Map.of("status", "CONFIRMED")).isSuccess();
+            }
+            case NOTIFICATIONS:
+                return client.get("/notifications", clientToken).isSuccess();
+            case UNREAD_COUNT:
+                return client.get("/notifications/unread-count", clientToken).isSuccess();
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private Map<String, Object> report() {
+        double seconds = options.getDurationSeconds();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Operation operation : options.getMix().keySet()) {
+            Map<String, Object> summary = stats.get(operation).summary(seconds);
+            endpoints.put(operation.getEndpoint(), summary);
+            print(operation.getEndpoint(), summary);
+        }
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", options.getRate());
+        config.put("durationSeconds", options.getDurationSeconds());
+        config.put("warmupSeconds", options.getWarmupSeconds());
+        config.put("concurrency", options.getConcurrency());
+        config.put("clients", options.getClients());
+        config.put("transporters", options.getTransporters());
+        config.put("mix", options.getMix());
+        config.put("applicationArgs", options.getApplicationArgs());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("endpoints", endpoints);
+        Map<String, Object> total = totals(endpoints, seconds);
+        result.put("total", total);
+        print("total", total);
+        return result;
+    }
+
+    static void writeResult(String output, Map<String, Object> result) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(output), result);
+        log("Results written to %s", output);
+    }
+
+    private Map<String, Object> totals(Map<String, Object> endpoints, double seconds) {
+        int requests = 0;
+        int errors = 0;
+        for (Object summary : endpoints.values()) {
+            requests += (Integer) ((Map<?, ?>) summary).get("requests");
+            errors += (Integer) ((Map<?, ?>) summary).get("errors");
+        }
+        Map<String, Object> total = new LinkedHashMap<>();
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("throughputPerSecond", Math.round(requests / seconds * 100) / 100.0);
+        return total;
+    }
+
+    private static void print(String name, Map<String, Object> summary) {
+        System.out.printf("%-32s %9s %7s %9s %9s %9s %9s %9s%n", name, summary.get("requests"), summary.get("errors"),
+            summary.get("throughputPerSecond"), summary.getOrDefault("p50Ms", ""), summary.getOrDefault("p95Ms", ""),
+            summary.getOrDefault("p99Ms", ""), summary.getOrDefault("maxMs", ""));
+    }
+
+    private static MountiClient.Response expectSuccess(MountiClient.Response response, String action) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Load test setup failed to " + action + ": HTTP " + response.getStatus());
+        }
+        return response;
+    }
+
+    static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
\ No newline at end of file
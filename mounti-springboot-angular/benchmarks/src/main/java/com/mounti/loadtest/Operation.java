@@ -0,0 +1,20 @@
+package com.mounti.loadtest;
+
+public enum Operation {
+    SEARCH("GET /trips"),
+    LOGIN("POST /auth/login"),
+    BOOK("POST /bookings"),
+    CONFIRM("PUT /bookings/{id}/status"),
+    NOTIFICATIONS("GET /notifications"),
+    UNREAD_COUNT("GET /notifications/unread-count");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.mounti.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs the same load twice, first with Tomcat's platform-thread pool and then
+ * with spring.threads.virtual.enabled, each against a fresh application, and
+ * prints the two side by side. Takes the LoadTestRunner options; the default
+ * client concurrency is raised to 512 so the platform pool (200 threads) is
+ * the bottleneck being compared.
+ *
+ * Virtual threads need Java 21+; on older JVMs both runs use platform threads.
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(withDefault(args, "--concurrency=512"));
+        if (Runtime.version().feature() < 21) {
+            LoadTestRunner.log("Java %d has no virtual threads: both runs will use platform threads",
+                Runtime.version().feature());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        LoadTestRunner.log("=== platform threads");
+        result.put("platform", LoadTestRunner.runAgainstNewApplication(options, "--spring.threads.virtual.enabled=false"));
+        LoadTestRunner.log("=== virtual threads");
+        result.put("virtual", LoadTestRunner.runAgainstNewApplication(options, "--spring.threads.virtual.enabled=true"));
+
+        printComparison(result);
+        LoadTestRunner.writeResult(options.getOutput(), result);
+        System.exit(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printComparison(Map<String, Object> result) {
+        Map<String, Object> platform = (Map<String, Object>) ((Map<String, Object>) result.get("platform")).get("endpoints");
+        Map<String, Object> virtual = (Map<String, Object>) ((Map<String, Object>) result.get("virtual")).get("endpoints");
+        System.out.printf("%n%-32s %12s %12s %12s %12s %10s %10s%n",
+            "endpoint", "p99 platform", "p99 virtual", "req/s plat.", "req/s virt.", "err plat.", "err virt.");
+        for (String endpoint : platform.keySet()) {
+            Map<String, Object> p = (Map<String, Object>) platform.get(endpoint);
+            Map<String, Object> v = (Map<String, Object>) virtual.get(endpoint);
+            System.out.printf("%-32s %12s %12s %12s %12s %10s %10s%n", endpoint, p.get("p99Ms"), v.get("p99Ms"),
+                p.get("throughputPerSecond"), v.get("throughputPerSecond"), p.get("errors"), v.get("errors"));
+        }
+    }
+
+    private static String[] withDefault(String[] args, String option) {
+        String name = option.substring(0, option.indexOf('=') + 1);
+        for (String arg : args) {
+            if (arg.startsWith(name)) {
+                return args;
+            }
+        }
+        String[] extended = new String[args.length + 1];
+        extended[0] = option;
+        System.arraycopy(args, 0, extended, 1, args.length);
+        return extended;
+    }
+}
\ No newline at end of file
@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { RouterModule } from '@angular/router';
 import { MatCardModule } from '@angular/material/card';
@@ -16,6 +16,7 @@ import { User } from '../../models/user.model';
 import { Trip } from '../../models/trip.model';
 import { Booking } from '../../models/booking.model';
 import { Notification } from '../../models/notification.model';
+import { Subscription } from 'rxjs';
 
 @Component({
   selector: 'app-dashboard',
@@ -259,11 +260,12 @@ import { Notification } from '../../models/notification.model';
     }
   `]
 })
-export class DashboardComponent implements OnInit {
+export class DashboardComponent implements OnInit, OnDestroy {
   currentUser: User | null = null;
   myTrips: Trip[] = [];
   myBookings: Booking[] = [];
   notifications: Notification[] = [];
+  private notificationsSubscription?: Subscription;
   selectedTabIndex = 0;
 
   mobileNavItems = [
@@ -292,6 +294,17 @@ export class DashboardComponent implements OnInit {
     this.loadTrips();
     this.loadBookings();
     this.loadNotifications();
+    this.notificationsSubscription = this.notificationService.notifications$.subscribe(notifications => {
+      this.notifications = notifications;
+    });
+    if (this.authService.getToken()) {
+      this.notificationService.connect();
+    }
+  }
+
+  ngOnDestroy(): void {
+    this.notificationsSubscription?.unsubscribe();
+    this.notificationService.disconnect();
   }
 
   private loadUserData(): void {
@@ -302,21 +315,21 @@ export class DashboardComponent implements OnInit {
 
   private loadTrips(): void {
     this.tripService.getMyTrips().subscribe({
-      next: (trips) => this.myTrips = trips,
+      next: (page) => this.myTrips = page.items,
       error: (error) => console.error('Error loading trips:', error)
     });
   }
 
   private loadBookings(): void {
     this.bookingService.getMyBookings().subscribe({
-      next: (bookings) => this.myBookings = bookings,
+      next: (page) => this.myBookings = page.items,
       error: (error) => console.error('Error loading bookings:', error)
     });
   }
 
   private loadNotifications(): void {
     this.notificationService.getNotifications().subscribe({
-      next: (notifications) => this.notifications = notifications,
+      next: (page) => this.notifications = page.items,
       error: (error) => console.error('Error loading notifications:', error)
     });
   }
@@ -336,7 +349,7 @@ export class DashboardComponent implements OnInit {
   }
 
   getUnreadCount(): number {
-    return this.notifications.filter(n => !n.isRead).length;
+    return this.notificationService.getUnreadCount();
   }
 
   onTabChange(event: any): void {
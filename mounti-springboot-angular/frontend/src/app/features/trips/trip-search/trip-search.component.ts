@@ -187,8 +187,8 @@ export class TripSearchComponent implements OnInit {
   loadAllTrips(): void {
     this.isLoading = true;
     this.tripService.getAllTrips().subscribe({
-      next: (trips) => {
-        this.filteredTrips = trips;
+      next: (page) => {
+        this.filteredTrips = page.items;
         this.isLoading = false;
       },
       error: (error) => {
@@ -210,8 +210,8 @@ export class TripSearchComponent implements OnInit {
     };
 
     this.tripService.getAllTrips(searchParams).subscribe({
-      next: (trips) => {
-        this.filteredTrips = trips;
+      next: (page) => {
+        this.filteredTrips = page.items;
         this.isLoading = false;
       },
       error: (error) => {
@@ -1,3 +1,5 @@
+import { TripStatus } from './trip.model';
+
 export interface Booking {
   id: string;
   tripId: string;
@@ -10,6 +12,22 @@ export interface Booking {
   createdAt: Date;
 }
 
+export interface TripLoad {
+  tripId: string;
+  fromLocation: string;
+  toLocation: string;
+  departureDate: Date;
+  status: TripStatus;
+  availableSeats: number;
+  availableWeightKg: number;
+  confirmedSeats: number;
+  pendingSeats: number;
+  confirmedKg: number;
+  pendingKg: number;
+  confirmedRevenue: number;
+  pendingRevenue: number;
+}
+
 export interface BookingRequest {
   tripId: string;
   bookingType: BookingType;
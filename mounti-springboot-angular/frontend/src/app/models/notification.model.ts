@@ -8,6 +8,12 @@ export interface Notification {
   createdAt: Date;
 }
 
+export interface MarkReadRequest {
+  ids?: string[];
+  type?: NotificationType;
+  before?: string;
+}
+
 export enum NotificationType {
   BOOKING_REQUEST = 'BOOKING_REQUEST',
   BOOKING_CONFIRMED = 'BOOKING_CONFIRMED',
@@ -0,0 +1,4 @@
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string;
+}
\ No newline at end of file
@@ -12,6 +12,7 @@ export interface Trip {
   notes?: string;
   status: TripStatus;
   createdAt: Date;
+  version: number;
 }
 
 export interface TripCreateRequest {
@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Booking, BookingRequest, BookingStatus } from '../models/booking.model';
+import { Booking, BookingRequest, BookingStatus, TripLoad } from '../models/booking.model';
+import { CursorPage } from '../models/page.model';
 
 @Injectable({
   providedIn: 'root'
@@ -9,18 +10,34 @@ import { Booking, BookingRequest, BookingStatus } from '../models/booking.model'
 export class BookingService {
   private readonly API_URL = 'http://localhost:8080/api/bookings';
 
+  private readonly EXPORT_URL = 'http://localhost:8080/api/export';
+
   constructor(private http: HttpClient) {}
 
   createBooking(bookingData: BookingRequest): Observable<Booking> {
     return this.http.post<Booking>(this.API_URL, bookingData);
   }
 
-  getMyBookings(): Observable<Booking[]> {
-    return this.http.get<Booking[]>(`${this.API_URL}/my`);
+  createBookings(bookings: BookingRequest[]): Observable<Booking[]> {
+    return this.http.post<Booking[]>(`${this.API_URL}/batch`, { bookings });
+  }
+
+  getMyBookings(cursor?: string): Observable<CursorPage<Booking>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : new HttpParams();
+    return this.http.get<CursorPage<Booking>>(`${this.API_URL}/my`, { params });
+  }
+
+  getAllMyBookings(): Observable<Booking[]> {
+    return this.http.get<Booking[]>(`${this.API_URL}/my/all`);
   }
 
-  getTripBookings(tripId: string): Observable<Booking[]> {
-    return this.http.get<Booking[]>(`${this.API_URL}/trip/${tripId}`);
+  getTripBookings(tripId: string, cursor?: string): Observable<CursorPage<Booking>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : new HttpParams();
+    return this.http.get<CursorPage<Booking>>(`${this.API_URL}/trip/${tripId}`, { params });
+  }
+
+  getDashboard(): Observable<TripLoad[]> {
+    return this.http.get<TripLoad[]>(`${this.API_URL}/dashboard`);
   }
 
   updateBookingStatus(bookingId: string, status: BookingStatus): Observable<void> {
@@ -30,4 +47,8 @@ export class BookingService {
   getBookingById(id: string): Observable<Booking> {
     return this.http.get<Booking>(`${this.API_URL}/${id}`);
   }
+
+  exportBookings(): Observable<Blob> {
+    return this.http.get(`${this.EXPORT_URL}/bookings`, { responseType: 'blob' });
+  }
 }
\ No newline at end of file
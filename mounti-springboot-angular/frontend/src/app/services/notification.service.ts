@@ -1,23 +1,33 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable, BehaviorSubject } from 'rxjs';
 import { tap } from 'rxjs/operators';
-import { Notification } from '../models/notification.model';
+import { MarkReadRequest, Notification } from '../models/notification.model';
+import { CursorPage } from '../models/page.model';
 
 @Injectable({
   providedIn: 'root'
 })
 export class NotificationService {
   private readonly API_URL = 'http://localhost:8080/api/notifications';
+  private readonly RECONNECT_DELAY_MS = 3000;
   private notificationsSubject = new BehaviorSubject<Notification[]>([]);
   public notifications$ = this.notificationsSubject.asObservable();
+  private unreadCountSubject = new BehaviorSubject<number>(0);
+  public unreadCount$ = this.unreadCountSubject.asObservable();
+  private eventSource?: EventSource;
+  private connected = false;
+  private reconnectTimer?: ReturnType<typeof setTimeout>;
 
   constructor(private http: HttpClient) {}
 
-  getNotifications(): Observable<Notification[]> {
-    return this.http.get<Notification[]>(this.API_URL)
+  getNotifications(cursor?: string): Observable<CursorPage<Notification>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : new HttpParams();
+    return this.http.get<CursorPage<Notification>>(this.API_URL, { params })
       .pipe(
-        tap(notifications => this.notificationsSubject.next(notifications))
+        tap(page => this.notificationsSubject.next(
+          cursor ? [...this.notificationsSubject.value, ...page.items] : page.items
+        ))
       );
   }
 
@@ -34,8 +44,74 @@ export class NotificationService {
       );
   }
 
+  // Omit ids to mark everything matching type/before; resolves to the number of notifications changed
+  markManyAsRead(request: MarkReadRequest = {}): Observable<number> {
+    return this.http.put<number>(`${this.API_URL}/read`, request)
+      .pipe(
+        tap(() => {
+          const notifications = this.notificationsSubject.value;
+          const updatedNotifications = notifications.map(n =>
+            this.matches(n, request) ? { ...n, isRead: true } : n
+          );
+          this.notificationsSubject.next(updatedNotifications);
+        })
+      );
+  }
+
   getUnreadCount(): number {
-    return this.notificationsSubject.value.filter(n => !n.isRead).length;
+    return this.unreadCountSubject.value;
+  }
+
+  // Server push replaces polling. The stream URL carries a single-use ticket rather than the
+  // bearer token, so after a drop it reconnects with a fresh ticket instead of EventSource's own retry
+  connect(): void {
+    if (this.connected) {
+      return;
+    }
+    this.connected = true;
+    this.openStream();
+  }
+
+  disconnect(): void {
+    this.connected = false;
+    clearTimeout(this.reconnectTimer);
+    this.eventSource?.close();
+    this.eventSource = undefined;
+  }
+
+  private openStream(): void {
+    this.http.post<{ ticket: string }>(`${this.API_URL}/stream-ticket`, {}).subscribe({
+      next: ({ ticket }) => {
+        if (!this.connected) {
+          return;
+        }
+        this.eventSource = new EventSource(`${this.API_URL}/stream?ticket=${encodeURIComponent(ticket)}`);
+        this.eventSource.addEventListener('notification', event => {
+          const notification: Notification = JSON.parse((event as MessageEvent).data);
+          this.notificationsSubject.next([notification, ...this.notificationsSubject.value]);
+        });
+        this.eventSource.addEventListener('unread-count', event => {
+          this.unreadCountSubject.next(Number((event as MessageEvent).data));
+        });
+        this.eventSource.onerror = () => this.reconnectLater();
+      },
+      error: () => this.reconnectLater()
+    });
+  }
+
+  private reconnectLater(): void {
+    this.eventSource?.close();
+    this.eventSource = undefined;
+    clearTimeout(this.reconnectTimer);
+    if (this.connected) {
+      this.reconnectTimer = setTimeout(() => this.openStream(), this.RECONNECT_DELAY_MS);
+    }
+  }
+
+  private matches(notification: Notification, request: MarkReadRequest): boolean {
+    return (!request.ids || request.ids.includes(notification.id))
+      && (!request.type || notification.type === request.type)
+      && (!request.before || new Date(notification.createdAt) < new Date(request.before));
   }
 
   refreshNotifications(): void {
@@ -2,6 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Trip, TripCreateRequest, TripSearchParams } from '../models/trip.model';
+import { CursorPage } from '../models/page.model';
 
 @Injectable({
   providedIn: 'root'
@@ -9,11 +10,34 @@ import { Trip, TripCreateRequest, TripSearchParams } from '../models/trip.model'
 export class TripService {
   private readonly API_URL = 'http://localhost:8080/api/trips';
 
+  private readonly EXPORT_URL = 'http://localhost:8080/api/export';
+
   constructor(private http: HttpClient) {}
 
-  getAllTrips(searchParams?: TripSearchParams): Observable<Trip[]> {
+  getAllTrips(searchParams?: TripSearchParams, cursor?: string): Observable<CursorPage<Trip>> {
     let params = new HttpParams();
     
+    if (searchParams) {
+      if (searchParams.fromLocation) {
+        params = params.set('fromLocation', searchParams.fromLocation);
+      }
+      if (searchParams.toLocation) {
+        params = params.set('toLocation', searchParams.toLocation);
+      }
+      if (searchParams.departureDate) {
+        params = params.set('departureDate', searchParams.departureDate);
+      }
+    }
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+
+    return this.http.get<CursorPage<Trip>>(this.API_URL, { params });
+  }
+
+  getAllMatchingTrips(searchParams?: TripSearchParams): Observable<Trip[]> {
+    let params = new HttpParams();
+
     if (searchParams) {
       if (searchParams.fromLocation) {
         params = params.set('fromLocation', searchParams.fromLocation);
@@ -26,11 +50,12 @@ export class TripService {
       }
     }
 
-    return this.http.get<Trip[]>(this.API_URL, { params });
+    return this.http.get<Trip[]>(`${this.API_URL}/all`, { params });
   }
 
-  getMyTrips(): Observable<Trip[]> {
-    return this.http.get<Trip[]>(`${this.API_URL}/my`);
+  getMyTrips(cursor?: string): Observable<CursorPage<Trip>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : new HttpParams();
+    return this.http.get<CursorPage<Trip>>(`${this.API_URL}/my`, { params });
   }
 
   getTripById(id: string): Observable<Trip> {
@@ -48,4 +73,8 @@ export class TripService {
   deleteTrip(id: string): Observable<void> {
     return this.http.delete<void>(`${this.API_URL}/${id}`);
   }
+
+  exportMyTrips(): Observable<Blob> {
+    return this.http.get(`${this.EXPORT_URL}/trips`, { responseType: 'blob' });
+  }
 }
\ No newline at end of file